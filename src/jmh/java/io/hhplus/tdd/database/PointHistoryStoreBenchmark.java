@@ -0,0 +1,68 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 내역 저장 방식별 유저 내역 조회 시간과 힙 사용량
+ * - 두 저장소 모두 전체 내역을 훑어 유저 내역을 찾으므로, 조회 시간 차이는 메모리 배치(객체 참조 목록과 기본형 배열) 차이다.
+ * - 힙 사용량은 준비 단계에서 내역을 채우기 전후의 사용 중 힙 차이를 내역 한 건당 바이트로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryStoreBenchmark {
+
+    private static final int USER_COUNT = 1000;
+
+    @Param({"100000", "1000000", "10000000"})
+    int totalRows;
+
+    @Param({"TABLE", "COLUMNAR"})
+    PointHistoryStoreType storeType;
+
+    PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        long before = usedHeap();
+
+        pointHistoryRepository = switch (storeType) {
+            case TABLE -> new PointHistoryTableRepository(new UnthrottledPointHistoryTable());
+            case COLUMNAR -> new ColumnarPointHistoryRepository();
+        };
+        for (int i = 0; i < totalRows; i++) {
+            pointHistoryRepository.insert(i % USER_COUNT, 1000L, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        long used = usedHeap() - before;
+        System.out.printf("%n[%s] rows=%d, heap=%dMB, bytesPerRow=%.1f%n", storeType, totalRows, used >> 20, (double) used / totalRows);
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId() {
+        return pointHistoryRepository.selectAllByUserId(ThreadLocalRandom.current().nextLong(USER_COUNT));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
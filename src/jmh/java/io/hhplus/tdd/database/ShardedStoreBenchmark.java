@@ -0,0 +1,71 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샤드 수에 따른 저장소 처리량
+ * - off-heap 유저 포인트 저장소와 컬럼형 포인트 내역 저장소는 저장소마다 잠금이 하나이므로, 샤드 수만큼 잠금이 나뉘어 저장 처리량이 늘어난다.
+ * - 포인트 내역 조회는 샤드의 내역만 훑으므로 샤드 수에 반비례해 빨라진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShardedStoreBenchmark {
+
+    private static final int USER_COUNT = 10000;
+    private static final int PRELOADED_ROWS = 100000;
+
+    @Param({"1", "2", "4", "8"})
+    int shardCount;
+
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        List<UserPointRepository> userPointShards = new ArrayList<>();
+        List<PointHistoryRepository> pointHistoryShards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            userPointShards.add(new OffHeapUserPointRepository(USER_COUNT * 2 / shardCount));
+            pointHistoryShards.add(new ColumnarPointHistoryRepository());
+        }
+        userPointRepository = new ShardedUserPointRepository(userPointShards);
+        pointHistoryRepository = new ShardedPointHistoryRepository(pointHistoryShards);
+
+        for (int i = 0; i < PRELOADED_ROWS; i++) {
+            pointHistoryRepository.insert(i % USER_COUNT, 1000L, TransactionType.CHARGE, i);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public PointHistory insert_8threads() {
+        long userId = ThreadLocalRandom.current().nextLong(USER_COUNT);
+        UserPoint userPoint = userPointRepository.insertOrUpdate(userId, 1000L);
+        return pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, userPoint.updateMillis());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<PointHistory> selectAllByUserId_8threads() {
+        return pointHistoryRepository.selectAllByUserId(ThreadLocalRandom.current().nextLong(USER_COUNT));
+    }
+}
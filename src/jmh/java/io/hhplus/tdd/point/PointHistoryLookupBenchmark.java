@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 포인트 내역 수에 따른 유저별 내역 조회 비용
+ * - 테이블 조회(전체 목록 필터링)와 유저별 인덱스 조회를 비교한다. 유저당 내역 수는 totalRows / 1000 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryLookupBenchmark {
+
+    private static final int USER_COUNT = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    int totalRows;
+
+    PointHistoryRepository pointHistoryRepository;
+    PointHistoryIndex pointHistoryIndex;
+
+    @Setup
+    public void setUp() {
+
+        pointHistoryRepository = new PointHistoryTableRepository(new UnthrottledPointHistoryTable());
+        pointHistoryIndex = new PointHistoryIndex(pointHistoryRepository, new PointHistoryIndexProperties(true));
+
+        for (int i = 0; i < totalRows; i++) {
+            PointHistory pointHistory = pointHistoryRepository.insert(i % USER_COUNT, 1000L, TransactionType.CHARGE, i);
+            pointHistoryIndex.record(pointHistory);
+        }
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            pointHistoryIndex.findAllByUserId(userId);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> tableSelectAllByUserId() {
+        return pointHistoryRepository.selectAllByUserId(ThreadLocalRandom.current().nextLong(USER_COUNT));
+    }
+
+    @Benchmark
+    public List<PointHistory> indexFindAllByUserId() {
+        return pointHistoryIndex.findAllByUserId(ThreadLocalRandom.current().nextLong(USER_COUNT));
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 락 방식과 메일박스 방식의 충전/사용 처리량과 지연 분포 비교
+ * - Mode.SampleTime 결과의 p0.99, p0.999 로 꼬리 지연을 비교한다.
+ * - userCount 로 일부 유저에 몰리는 경우(16)와 수천 명에게 퍼지는 경우(5000)를 비교한다.
+ * - 테이블 지연을 제거해 실행 방식 자체의 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointMailboxBenchmark {
+
+    public enum Engine {
+        LOCK, MAILBOX
+    }
+
+    @Param({"16", "5000"})
+    int userCount;
+
+    @Param({"LOCK", "MAILBOX"})
+    Engine engine;
+
+    PointServiceFixture fixture;
+    PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointMailboxProperties mailboxProperties = engine == Engine.MAILBOX
+                ? new PointMailboxProperties(true, Runtime.getRuntime().availableProcessors(), 100000, 64)
+                : PointMailboxProperties.disabled();
+        fixture = PointServiceFixture.builder()
+                .userPointRepository(new UserPointTableRepository(new UnthrottledUserPointTable()))
+                .pointHistoryRepository(new PointHistoryTableRepository(new UnthrottledPointHistoryTable()))
+                .mailbox(mailboxProperties)
+                .build();
+        pointService = fixture.pointService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.shutdown();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public UserPoint chargeAndUse_64threads() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public UserPoint chargeAndUse_256threads() {
+        return chargeAndUse();
+    }
+
+    private UserPoint chargeAndUse() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount);
+        pointService.charge(userId, 10L);
+        return pointService.use(userId, 10L);
+    }
+}
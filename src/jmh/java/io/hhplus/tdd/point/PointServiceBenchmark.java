@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.database.UnthrottledUserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 충전/사용 처리량
+ * - userCount 로 한 유저에 몰리는 경우(1), 일부 유저에 몰리는 경우(16), 넓게 퍼지는 경우(10000)를 비교한다.
+ * - 테이블 지연을 제거해 서비스와 락 처리 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+
+    @Param({"1", "16", "10000"})
+    int userCount;
+
+    @Param({"PER_USER", "STRIPED"})
+    UserLockStrategyType lockStrategy;
+
+    PointServiceFixture fixture;
+    PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = PointServiceFixture.builder()
+                .userPointRepository(new UserPointTableRepository(new UnthrottledUserPointTable()))
+                .pointHistoryRepository(new PointHistoryTableRepository(new UnthrottledPointHistoryTable()))
+                .userLockManager(new UserLockManager(new UserLockProperties(lockStrategy, true, 1024)))
+                .build();
+        pointService = fixture.pointService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        fixture.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint chargeAndUse_1thread() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeAndUse_8threads() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UserPoint chargeAndUse_32threads() {
+        return chargeAndUse();
+    }
+
+    private UserPoint chargeAndUse() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount);
+        pointService.charge(userId, 10L);
+        return pointService.use(userId, 10L);
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 로그 기록과 재생 비용
+ * - append : 강제 기록 방식별 기록 처리량, 8 스레드가 동시에 기록한다.
+ * - replay : 레코드 수에 따른 전체 로그 재생(체크섬 검증, 유저별 잔고 합산) 시간
+ */
+public class PointWalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"PER_OP", "BATCH", "INTERVAL"})
+        PointWalFsyncMode fsyncMode;
+
+        Path directory;
+        PointWriteAheadLog pointWriteAheadLog;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("point-wal-append");
+            pointWriteAheadLog = new PointWriteAheadLog(new PointWalProperties(true, directory.toString(), 64L << 20, fsyncMode, 100L));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException, InterruptedException {
+            pointWriteAheadLog.shutdown();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReplayState {
+
+        @Param({"100000", "1000000"})
+        int recordCount;
+
+        Path directory;
+        PointWriteAheadLog pointWriteAheadLog;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            directory = Files.createTempDirectory("point-wal-replay");
+            PointWalProperties properties = new PointWalProperties(true, directory.toString(), 64L << 20, PointWalFsyncMode.INTERVAL, 100L);
+            PointWriteAheadLog writer = new PointWriteAheadLog(properties);
+            for (int i = 0; i < recordCount; i++) {
+                writer.append(i % 1000, TransactionType.CHARGE, 1000L, i);
+            }
+            writer.shutdown();
+            pointWriteAheadLog = new PointWriteAheadLog(properties);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException, InterruptedException {
+            pointWriteAheadLog.shutdown();
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long append(AppendState state) {
+        return state.pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1000L, 1L);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Long, Long> replay(ReplayState state) {
+        Map<Long, Long> balances = new HashMap<>();
+        state.pointWriteAheadLog.replay(0L, record -> balances.merge(record.userId(), record.signedAmount(), Long::sum));
+        return balances;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
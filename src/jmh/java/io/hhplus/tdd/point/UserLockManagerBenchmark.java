@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserLockManager 락 조회와 획득/해제 비용
+ * - userCount 가 1 이면 모든 스레드가 같은 락을 두고 경합한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UserLockManagerBenchmark {
+
+    @Param({"PER_USER", "STRIPED", "EVICTING"})
+    UserLockStrategyType lockStrategy;
+
+    @Param({"true", "false"})
+    boolean fair;
+
+    @Param({"1", "1024", "1000000"})
+    int userCount;
+
+    UserLockManager userLockManager;
+
+    @Setup
+    public void setUp() {
+        userLockManager = new UserLockManager(new UserLockProperties(lockStrategy, fair, 1024));
+    }
+
+    @Benchmark
+    public int lockAndUnlock() {
+
+        ReentrantLock lock = userLockManager.getLock(ThreadLocalRandom.current().nextLong(userCount));
+        lock.lock();
+        try {
+            return lock.getHoldCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPoint 레코드 생성 비용
+ * - gc 프로파일러의 gc.alloc.rate.norm 으로 연산당 할당 바이트를 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointAllocationBenchmark {
+
+    UserPoint userPoint = new UserPoint(1L, 1000L, 1L);
+
+    @Benchmark
+    public UserPoint newUserPoint() {
+        return new UserPoint(1L, 1000L, 1L);
+    }
+
+    @Benchmark
+    public UserPoint chargeAndUse() {
+        return userPoint.charge(10L).use(10L);
+    }
+
+    @Benchmark
+    public UserPoint applyCharge() {
+        return userPoint.apply(TransactionType.CHARGE, 10L);
+    }
+}
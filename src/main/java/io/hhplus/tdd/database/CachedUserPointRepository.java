@@ -0,0 +1,43 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다른 저장소 앞에서 모든 유저 포인트를 메모리에 들고 있는 저장소
+ * - 저장은 원래 저장소에 먼저 저장한 뒤 결과를 메모리에 반영하고(write-through), 조회는 메모리에 없을 때만 원래 저장소에서 읽는다.
+ * - 원래 저장소에서 읽은 값은 비어 있을 때만 반영해, 조회 도중 끝난 저장 결과를 이전 값으로 덮어쓰지 않는다.
+ * - 같은 유저의 저장은 서비스의 유저 락으로 한 번에 하나씩 처리된다고 가정한다.
+ * - 크기와 유지 시간 제한이 있는 서비스의 UserPointCache 와 달리 모든 유저를 보관하며, 원래 저장소는 이 저장소를 거쳐서만 변경해야 한다.
+ */
+public class CachedUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final Map<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+
+    public CachedUserPointRepository(UserPointRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        UserPoint cached = userPoints.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserPoint loaded = delegate.selectById(id);
+        UserPoint previous = userPoints.putIfAbsent(id, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint saved = delegate.insertOrUpdate(id, amount);
+        userPoints.put(id, saved);
+        return saved;
+    }
+}
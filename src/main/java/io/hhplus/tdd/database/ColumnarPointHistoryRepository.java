@@ -0,0 +1,110 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 열(column)마다 기본형 배열에 내역을 보관하는 포인트 내역 저장소
+ * - 내역 한 건을 userId, amount, updateMillis 의 long 과 type 의 byte 로 저장해 객체 헤더와 참조 비용 없이 25 바이트만 사용한다.
+ * - 아이디는 저장 순서(행 번호 + 1)와 같으므로 따로 저장하지 않는다.
+ * - 배열은 CHUNK_SIZE 행 단위 묶음(chunk)으로 늘려 전체 복사 없이 커진다.
+ * - PointHistory 객체는 조회 결과를 반환할 때만 만든다.
+ * - 저장은 한 번에 하나씩 처리하고, 조회는 락 없이 저장이 끝난 행까지만 읽는다.
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+    static final int CHUNK_BITS = 14;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+
+        writeLock.lock();
+        try {
+            int row = size;
+            if (row == Integer.MAX_VALUE) {
+                throw new IllegalStateException("포인트 내역 저장소가 가득 찼습니다.");
+            }
+
+            Chunk chunk = chunkForWrite(row);
+            int offset = row & CHUNK_MASK;
+            chunk.userIds[offset] = userId;
+            chunk.amounts[offset] = amount;
+            chunk.updateMillis[offset] = updateMillis;
+            chunk.types[offset] = (byte) type.ordinal();
+            size = row + 1;
+
+            return new PointHistory(row + 1L, userId, amount, type, updateMillis);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        int rows = size;
+        Chunk[] current = chunks;
+
+        int chunkCount = (int) (((long) rows + CHUNK_MASK) >>> CHUNK_BITS);
+
+        List<PointHistory> histories = new ArrayList<>();
+        for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+            Chunk chunk = current[chunkIndex];
+            int base = chunkIndex << CHUNK_BITS;
+            int limit = Math.min(CHUNK_SIZE, rows - base);
+            long[] userIds = chunk.userIds;
+            for (int offset = 0; offset < limit; offset++) {
+                if (userIds[offset] == userId) {
+                    histories.add(chunk.materialize(base + offset + 1L, offset));
+                }
+            }
+        }
+        return Collections.unmodifiableList(histories);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * writeLock 을 잡은 상태에서 호출한다. 새 묶음은 size 를 늘리기 전에 공개되므로, 조회 시 size 를 먼저 읽으면 해당 행의 묶음이 항상 보인다.
+     */
+    private Chunk chunkForWrite(int row) {
+
+        int chunkIndex = row >>> CHUNK_BITS;
+        Chunk[] current = chunks;
+        if (chunkIndex < current.length) {
+            return current[chunkIndex];
+        }
+
+        Chunk[] grown = Arrays.copyOf(current, chunkIndex + 1);
+        grown[chunkIndex] = new Chunk();
+        chunks = grown;
+        return grown[chunkIndex];
+    }
+
+    private static final class Chunk {
+
+        private final long[] userIds = new long[CHUNK_SIZE];
+        private final long[] amounts = new long[CHUNK_SIZE];
+        private final long[] updateMillis = new long[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+
+        private PointHistory materialize(long id, int offset) {
+            return new PointHistory(id, userIds[offset], amounts[offset], TYPES[types[offset]], updateMillis[offset]);
+        }
+    }
+}
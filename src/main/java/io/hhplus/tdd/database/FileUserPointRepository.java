@@ -0,0 +1,100 @@
+package io.hhplus.tdd.database;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 맵 파일에 유저 포인트를 보관하는 저장소
+ * - OffHeapUserPointRepository 와 같은 해시 테이블을 파일에 그대로 매핑하므로, 재시작해도 파일의 잔고를 그대로 사용한다.
+ * - 변경 내용은 운영체제가 파일에 기록하며, 강제 기록(fsync)은 크기를 늘릴 때와 종료 시에만 한다. 장애 시 유실 방지가 필요하면 포인트 로그와 함께 사용한다.
+ * - 크기를 늘릴 때는 임시 파일에 옮겨 담고 강제 기록한 뒤 이름을 바꿔, 도중에 장애가 나도 기존 파일이 남는다.
+ */
+public class FileUserPointRepository extends OffHeapUserPointRepository implements AutoCloseable {
+
+    public FileUserPointRepository(Path file, int initialCapacity) {
+        super(initialCapacity, new MappedSlotStorage(file));
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private static final class MappedSlotStorage implements SlotStorage {
+
+        private static final String GROW_SUFFIX = ".grow";
+
+        private final Path file;
+        private final Path growFile;
+
+        private MappedSlotStorage(Path file) {
+            this.file = file;
+            this.growFile = file.resolveSibling(file.getFileName() + GROW_SUFFIX);
+        }
+
+        @Override
+        public ByteBuffer open(int capacity) {
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Files.deleteIfExists(growFile);
+
+                long existingBytes = Files.exists(file) ? Files.size(file) : 0L;
+                if (existingBytes == 0L) {
+                    return map(file, capacity);
+                }
+
+                long existingCapacity = existingBytes / SLOT_BYTES;
+                if (existingBytes % SLOT_BYTES != 0 || existingCapacity > MAX_CAPACITY || Long.bitCount(existingCapacity) != 1) {
+                    throw new IllegalStateException("유저 포인트 파일 크기가 올바르지 않습니다. file=" + file + ", bytes=" + existingBytes);
+                }
+                return map(file, (int) existingCapacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException("유저 포인트 파일을 열 수 없습니다. file=" + file, e);
+            }
+        }
+
+        @Override
+        public ByteBuffer allocate(int capacity) {
+            try {
+                Files.deleteIfExists(growFile);
+                return map(growFile, capacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException("유저 포인트 파일을 늘릴 수 없습니다. file=" + growFile, e);
+            }
+        }
+
+        @Override
+        public void replace(ByteBuffer grown) {
+            try {
+                ((MappedByteBuffer) grown).force();
+                Files.move(growFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("유저 포인트 파일을 교체할 수 없습니다. file=" + file, e);
+            }
+        }
+
+        @Override
+        public void force(ByteBuffer slots) {
+            ((MappedByteBuffer) slots).force();
+        }
+
+        /**
+         * 매핑은 채널을 닫은 뒤에도 유지된다.
+         */
+        private static MappedByteBuffer map(Path path, int capacity) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * SLOT_BYTES);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 힙 밖(direct buffer)에 유저 포인트를 보관하는 저장소
+ * - 열린 주소(open addressing) 방식의 해시 테이블로, 슬롯 하나에 키(유저 아이디 + 1), 포인트, 수정 시간을 long 3개(24 바이트)로 저장한다.
+ * - 유저 아이디는 0 이상이므로 키 0 을 빈 슬롯으로 사용하고, 충돌 시 다음 슬롯을 차례로 확인한다(linear probing).
+ * - 키 박싱과 UserPoint 객체가 힙에 남지 않아 유저 수가 많아도 GC 대상이 늘지 않는다. UserPoint 는 조회 결과를 반환할 때만 만든다.
+ * - 유저 수가 슬롯의 75% 를 넘으면 두 배 크기의 버퍼로 옮긴다. 버퍼 크기는 -XX:MaxDirectMemorySize 의 제한을 받는다.
+ * - 조회는 서로 동시에, 저장은 한 번에 하나씩 처리한다.
+ */
+public class OffHeapUserPointRepository implements UserPointRepository {
+
+    static final int SLOT_BYTES = Long.BYTES * 3;
+    static final int MAX_CAPACITY = 1 << 26;
+    private static final int POINT_OFFSET = Long.BYTES;
+    private static final int UPDATE_MILLIS_OFFSET = Long.BYTES * 2;
+    private static final long EMPTY_KEY = 0L;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SlotStorage storage;
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+
+    public OffHeapUserPointRepository(int initialCapacity) {
+        this(initialCapacity, new DirectSlotStorage());
+    }
+
+    OffHeapUserPointRepository(int initialCapacity, SlotStorage storage) {
+
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("유저 포인트 저장소 초기 크기는 0보다 크고 " + MAX_CAPACITY + " 이하여야 합니다.");
+        }
+
+        this.storage = storage;
+        this.slots = storage.open(Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1);
+        this.mask = slots.capacity() / SLOT_BYTES - 1;
+        for (int position = 0; position < slots.capacity(); position += SLOT_BYTES) {
+            if (slots.getLong(position) != EMPTY_KEY) {
+                size++;
+            }
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        if (id < 0) {
+            return UserPoint.empty(id);
+        }
+
+        lock.readLock().lock();
+        try {
+            int position = find(slots, mask, id + 1);
+            if (position < 0) {
+                return UserPoint.empty(id);
+            }
+            return new UserPoint(id, slots.getLong(position + POINT_OFFSET), slots.getLong(position + UPDATE_MILLIS_OFFSET));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        long key = id + 1;
+
+        lock.writeLock().lock();
+        try {
+            int position = find(slots, mask, key);
+            if (position < 0) {
+                if ((size + 1L) * 4 > (mask + 1L) * 3) {
+                    grow();
+                }
+                position = emptySlot(slots, mask, key);
+                slots.putLong(position + POINT_OFFSET, userPoint.point());
+                slots.putLong(position + UPDATE_MILLIS_OFFSET, userPoint.updateMillis());
+                slots.putLong(position, key);
+                size++;
+                return userPoint;
+            }
+            slots.putLong(position + POINT_OFFSET, userPoint.point());
+            slots.putLong(position + UPDATE_MILLIS_OFFSET, userPoint.updateMillis());
+            return userPoint;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * writeLock 을 잡은 상태에서 호출한다.
+     */
+    private void grow() {
+
+        int capacity = mask + 1;
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("유저 포인트 저장소가 가득 찼습니다.");
+        }
+
+        int grownMask = capacity * 2 - 1;
+        ByteBuffer grown = storage.allocate(capacity * 2);
+        for (int position = 0; position < capacity * SLOT_BYTES; position += SLOT_BYTES) {
+            long key = slots.getLong(position);
+            if (key != EMPTY_KEY) {
+                int target = emptySlot(grown, grownMask, key);
+                grown.putLong(target, key);
+                grown.putLong(target + POINT_OFFSET, slots.getLong(position + POINT_OFFSET));
+                grown.putLong(target + UPDATE_MILLIS_OFFSET, slots.getLong(position + UPDATE_MILLIS_OFFSET));
+            }
+        }
+        storage.replace(grown);
+        slots = grown;
+        mask = grownMask;
+    }
+
+    /**
+     * 저장된 내용을 저장 매체에 강제 기록한다.
+     */
+    void force() {
+        lock.readLock().lock();
+        try {
+            storage.force(slots);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키가 저장된 슬롯의 위치를 반환하고, 없으면 -1 을 반환한다.
+     */
+    private static int find(ByteBuffer slots, int mask, long key) {
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            long stored = slots.getLong(index * SLOT_BYTES);
+            if (stored == key) {
+                return index * SLOT_BYTES;
+            }
+            if (stored == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 키가 없는 것을 확인한 뒤 호출해, 키를 저장할 빈 슬롯의 위치를 반환한다.
+     */
+    private static int emptySlot(ByteBuffer slots, int mask, long key) {
+        int index = hash(key) & mask;
+        while (slots.getLong(index * SLOT_BYTES) != EMPTY_KEY) {
+            index = (index + 1) & mask;
+        }
+        return index * SLOT_BYTES;
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    /**
+     * 슬롯 버퍼를 만들고 보관하는 방법
+     */
+    interface SlotStorage {
+
+        /**
+         * 저장소를 처음 열 때 사용할 버퍼를 반환한다. 기존 내용이 있으면 그대로 반환하고, 없으면 capacity 슬롯의 빈 버퍼를 반환한다.
+         */
+        ByteBuffer open(int capacity);
+
+        /**
+         * 크기를 늘릴 때 옮겨 담을 capacity 슬롯의 빈 버퍼를 반환한다.
+         */
+        ByteBuffer allocate(int capacity);
+
+        /**
+         * 옮겨 담기가 끝난 버퍼를 현재 버퍼로 확정한다.
+         */
+        void replace(ByteBuffer grown);
+
+        void force(ByteBuffer slots);
+    }
+
+    private static final class DirectSlotStorage implements SlotStorage {
+
+        @Override
+        public ByteBuffer open(int capacity) {
+            return allocate(capacity);
+        }
+
+        @Override
+        public ByteBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        }
+
+        @Override
+        public void replace(ByteBuffer grown) {
+        }
+
+        @Override
+        public void force(ByteBuffer slots) {
+        }
+    }
+}
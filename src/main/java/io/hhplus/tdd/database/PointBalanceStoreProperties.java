@@ -0,0 +1,31 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 포인트(잔고) 저장소 설정
+ * - type : 저장 방식
+ * - initialCapacity : off-heap, file 저장소의 초기 슬롯 수 (2의 거듭제곱으로 올림, 유저 수가 75% 를 넘으면 두 배로 늘림)
+ * - file : file 저장소의 파일 경로
+ */
+@ConfigurationProperties(prefix = "point.balance-store")
+public record PointBalanceStoreProperties(
+        @DefaultValue("table") PointBalanceStoreType type,
+        @DefaultValue("65536") int initialCapacity,
+        @DefaultValue("data/balances.dat") String file
+) {
+
+    public PointBalanceStoreProperties {
+
+        if (type == null) {
+            throw new IllegalArgumentException("유저 포인트 저장 방식은 필수입니다.");
+        }
+        if (initialCapacity <= 0 || initialCapacity > OffHeapUserPointRepository.MAX_CAPACITY) {
+            throw new IllegalArgumentException("유저 포인트 저장소 초기 크기는 0보다 크고 " + OffHeapUserPointRepository.MAX_CAPACITY + " 이하여야 합니다.");
+        }
+        if (type == PointBalanceStoreType.FILE && (file == null || file.isBlank())) {
+            throw new IllegalArgumentException("유저 포인트 파일 경로는 필수입니다.");
+        }
+    }
+}
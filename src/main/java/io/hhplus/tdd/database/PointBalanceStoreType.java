@@ -0,0 +1,12 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 유저 포인트(잔고) 저장 방식
+ * - TABLE : UserPointTable (유저마다 Long 키와 UserPoint 객체를 HashMap 에 보관)
+ * - CACHED : CachedUserPointRepository (UserPointTable 앞에서 모든 유저 포인트를 메모리에 보관)
+ * - OFF_HEAP : OffHeapUserPointRepository (힙 밖의 버퍼에 기본형 키와 값을 보관)
+ * - FILE : FileUserPointRepository (OFF_HEAP 과 같은 구조를 메모리 맵 파일에 보관해 재시작 후에도 유지)
+ */
+public enum PointBalanceStoreType {
+    TABLE, CACHED, OFF_HEAP, FILE
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 저장소
+ * - PointHistoryTable 과 같은 의미의 공개 API 를 제공하며, 저장 방식은 point.history-store.type 으로 선택한다.
+ */
+public interface PointHistoryRepository {
+
+    /**
+     * 1 부터 순서대로 증가하는 아이디를 부여해 내역을 저장하고 저장된 내역을 반환한다.
+     * 샤드로 나눈 저장소는 겹치지 않고 같은 유저 안에서 저장 순서대로 증가하는 아이디를 부여한다.
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 해당 유저의 내역을 저장 순서대로 반환한다.
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 내역 저장소 설정
+ * - type : 저장 방식
+ */
+@ConfigurationProperties(prefix = "point.history-store")
+public record PointHistoryStoreProperties(
+        @DefaultValue("table") PointHistoryStoreType type
+) {
+
+    public PointHistoryStoreProperties {
+
+        if (type == null) {
+            throw new IllegalArgumentException("포인트 내역 저장 방식은 필수입니다.");
+        }
+    }
+}
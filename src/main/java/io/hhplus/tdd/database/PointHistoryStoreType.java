@@ -0,0 +1,10 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 포인트 내역 저장 방식
+ * - TABLE : PointHistoryTable (내역마다 PointHistory 객체를 목록에 보관)
+ * - COLUMNAR : ColumnarPointHistoryRepository (열마다 기본형 배열에 보관)
+ */
+public enum PointHistoryStoreType {
+    TABLE, COLUMNAR
+}
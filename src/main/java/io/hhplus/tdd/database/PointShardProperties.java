@@ -0,0 +1,27 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 저장소 샤드 설정
+ * - count : 유저 아이디로 나눌 샤드 수, 1 이면 나누지 않음
+ */
+@ConfigurationProperties(prefix = "point.shard")
+public record PointShardProperties(
+        @DefaultValue("1") int count
+) {
+
+    public static final int MAX_COUNT = 1024;
+
+    public PointShardProperties {
+
+        if (count <= 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("샤드 수는 0보다 크고 " + MAX_COUNT + " 이하여야 합니다.");
+        }
+    }
+
+    public static PointShardProperties single() {
+        return new PointShardProperties(1);
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설정에 따라 포인트 저장소 구현을 선택한다.
+ * - 유저 포인트는 point.balance-store.type, 포인트 내역은 point.history-store.type 으로 각각 선택한다.
+ * - point.shard.count 가 1 보다 크면 선택한 저장소를 샤드 수만큼 만들어 유저 아이디로 나눠 저장한다.
+ *   table 저장소는 첫 샤드에 스프링 빈 테이블을, 나머지 샤드에 새 테이블을 사용하고, file 저장소는 샤드마다 파일 이름 뒤에 -샤드 번호를 붙인다.
+ *   샤드는 저장소만 나누며, table 샤드는 샤드 1개일 때처럼 잠금 없이 사용된다. 유저 락과 스레드 풀은 샤드로 나누지 않는다.
+ * - 종료 시 file 저장소의 close 가 호출되어 변경 내용을 강제 기록한다.
+ */
+@Configuration
+public class PointStorageConfiguration {
+
+    @Bean
+    public UserPointRepository userPointRepository(PointBalanceStoreProperties properties, PointShardProperties shardProperties, UserPointTable userPointTable) {
+
+        if (shardProperties.count() == 1) {
+            return createUserPointRepository(properties, userPointTable, Path.of(properties.file()));
+        }
+
+        List<UserPointRepository> shards = new ArrayList<>(shardProperties.count());
+        for (int shard = 0; shard < shardProperties.count(); shard++) {
+            UserPointTable table = shard == 0 ? userPointTable : new UserPointTable();
+            shards.add(createUserPointRepository(properties, table, shardFile(Path.of(properties.file()), shard)));
+        }
+        return new ShardedUserPointRepository(shards);
+    }
+
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(PointHistoryStoreProperties properties, PointShardProperties shardProperties, PointHistoryTable pointHistoryTable) {
+
+        if (shardProperties.count() == 1) {
+            return createPointHistoryRepository(properties, pointHistoryTable);
+        }
+
+        List<PointHistoryRepository> shards = new ArrayList<>(shardProperties.count());
+        for (int shard = 0; shard < shardProperties.count(); shard++) {
+            PointHistoryTable table = shard == 0 ? pointHistoryTable : new PointHistoryTable();
+            shards.add(createPointHistoryRepository(properties, table));
+        }
+        return new ShardedPointHistoryRepository(shards);
+    }
+
+    private static UserPointRepository createUserPointRepository(PointBalanceStoreProperties properties, UserPointTable userPointTable, Path file) {
+        return switch (properties.type()) {
+            case TABLE -> new UserPointTableRepository(userPointTable);
+            case CACHED -> new CachedUserPointRepository(new UserPointTableRepository(userPointTable));
+            case OFF_HEAP -> new OffHeapUserPointRepository(properties.initialCapacity());
+            case FILE -> new FileUserPointRepository(file, properties.initialCapacity());
+        };
+    }
+
+    private static PointHistoryRepository createPointHistoryRepository(PointHistoryStoreProperties properties, PointHistoryTable pointHistoryTable) {
+        return switch (properties.type()) {
+            case TABLE -> new PointHistoryTableRepository(pointHistoryTable);
+            case COLUMNAR -> new ColumnarPointHistoryRepository();
+        };
+    }
+
+    private static Path shardFile(Path file, int shard) {
+        return file.resolveSibling(file.getFileName() + "-" + shard);
+    }
+}
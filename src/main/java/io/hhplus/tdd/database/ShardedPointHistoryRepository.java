@@ -0,0 +1,50 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 유저 아이디로 나눈 여러 저장소(샤드)에 포인트 내역을 나눠 보관하는 저장소
+ * - 유저의 내역은 항상 같은 샤드(유저 아이디를 샤드 수로 나눈 나머지)에 저장되고, 샤드마다 아이디 순번이 따로 있다. 저장소만 나누며 잠금은 더하지 않으므로, 샤드 사이의 경합은 각 샤드 저장소의 잠금(columnar)에 따라 달라진다.
+ * - 샤드의 아이디 n 은 (n - 1) * 샤드 수 + 샤드 번호 + 1 로 바꿔 반환한다.
+ *   아이디는 샤드 사이에 겹치지 않고 같은 유저 안에서는 저장 순서대로 증가하지만, 전체 저장 순서와 일치하거나 연속되지는 않는다.
+ */
+public class ShardedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryRepository[] shards;
+
+    public ShardedPointHistoryRepository(List<? extends PointHistoryRepository> shards) {
+
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드는 1개 이상이어야 합니다.");
+        }
+
+        this.shards = shards.toArray(new PointHistoryRepository[0]);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        int shard = shardOf(userId);
+        return toGlobal(shard, shards[shard].insert(userId, amount, type, updateMillis));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        int shard = shardOf(userId);
+        return shards[shard].selectAllByUserId(userId).stream()
+                .map(row -> toGlobal(shard, row))
+                .toList();
+    }
+
+    private int shardOf(long userId) {
+        return (int) Math.floorMod(userId, (long) shards.length);
+    }
+
+    private PointHistory toGlobal(int shard, PointHistory row) {
+        long id = (row.id() - 1) * shards.length + shard + 1;
+        return new PointHistory(id, row.userId(), row.amount(), row.type(), row.updateMillis());
+    }
+}
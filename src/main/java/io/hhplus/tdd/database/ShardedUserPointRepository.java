@@ -0,0 +1,47 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 유저 아이디로 나눈 여러 저장소(샤드)에 유저 포인트를 나눠 보관하는 저장소
+ * - 유저는 항상 같은 샤드(유저 아이디를 샤드 수로 나눈 나머지)에 저장된다. 저장소만 나누며 잠금은 더하지 않으므로, 샤드 사이의 경합은 각 샤드 저장소의 잠금(off-heap, file)에 따라 달라진다.
+ * - 종료 시 AutoCloseable 인 샤드를 모두 닫는다.
+ */
+public class ShardedUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    private final UserPointRepository[] shards;
+
+    public ShardedUserPointRepository(List<? extends UserPointRepository> shards) {
+
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드는 1개 이상이어야 합니다.");
+        }
+
+        this.shards = shards.toArray(new UserPointRepository[0]);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return shard(id).selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return shard(id).insertOrUpdate(id, amount);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (UserPointRepository shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private UserPointRepository shard(long id) {
+        return shards[(int) Math.floorMod(id, (long) shards.length)];
+    }
+}
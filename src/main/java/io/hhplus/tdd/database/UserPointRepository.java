@@ -0,0 +1,20 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트(잔고) 저장소
+ * - UserPointTable 과 같은 의미의 공개 API 를 제공하며, 저장 방식은 point.balance-store.type 으로 선택한다.
+ */
+public interface UserPointRepository {
+
+    /**
+     * 해당 유저의 포인트를 반환한다. 저장된 적이 없으면 포인트가 0 인 유저 포인트를 반환한다.
+     */
+    UserPoint selectById(long id);
+
+    /**
+     * 해당 유저의 포인트를 현재 시간으로 저장하고 저장된 유저 포인트를 반환한다.
+     */
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 을 그대로 사용하는 기본 유저 포인트 저장소
+ */
+public class UserPointTableRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+
+    public UserPointTableRepository(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 획득 시 다른 스레드가 이미 잡고 있었는지 기록하는 락
+ */
+class ContentionTrackingLock extends ReentrantLock {
+
+    private final LongAdder acquireCount;
+    private final LongAdder contendedCount;
+
+    ContentionTrackingLock(boolean fair, LongAdder acquireCount, LongAdder contendedCount) {
+        super(fair);
+        this.acquireCount = acquireCount;
+        this.contendedCount = contendedCount;
+    }
+
+    @Override
+    public void lock() {
+        acquireCount.increment();
+        if (isLocked() && !isHeldByCurrentThread()) {
+            contendedCount.increment();
+        }
+        super.lock();
+    }
+}
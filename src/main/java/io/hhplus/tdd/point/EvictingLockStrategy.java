@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저마다 락을 만들고, 락을 얻어간 스레드가 모두 unlock 하면 제거하는 방식
+ * - getLock 시 참조 수를 올리고 unlock 시 내리므로 getLock 한 번마다 lock/unlock 을 한 번씩 호출해야 한다.
+ */
+class EvictingLockStrategy implements UserLockStrategy {
+
+    private final boolean fair;
+    private final ConcurrentHashMap<Long, CountedLock> lockMap = new ConcurrentHashMap<>();
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+
+    EvictingLockStrategy(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public ReentrantLock getLock(long userId) {
+        return lockMap.compute(userId, (key, lock) -> {
+            CountedLock counted = lock == null ? new CountedLock(key) : lock;
+            counted.references++;
+            return counted;
+        });
+    }
+
+    /**
+     * 락을 잡지 못하면 getLock 으로 올린 참조 수를 바로 내려, 아무도 쓰지 않는 락이 남지 않도록 한다.
+     */
+    @Override
+    public ReentrantLock tryLock(long userId) {
+        CountedLock lock = (CountedLock) getLock(userId);
+        if (lock.tryLock()) {
+            return lock;
+        }
+        lock.release();
+        return null;
+    }
+
+    @Override
+    public UserLockStats stats() {
+        return new UserLockStats(UserLockStrategyType.EVICTING, lockMap.size(), acquireCount.sum(), contendedCount.sum());
+    }
+
+    private class CountedLock extends ContentionTrackingLock {
+
+        private final long userId;
+        // lockMap 의 compute 안에서만 변경된다.
+        private int references;
+
+        private CountedLock(long userId) {
+            super(fair, acquireCount, contendedCount);
+            this.userId = userId;
+        }
+
+        @Override
+        public void unlock() {
+            super.unlock();
+            release();
+        }
+
+        private void release() {
+            lockMap.computeIfPresent(userId, (key, lock) -> {
+                if (lock != this) {
+                    return lock;
+                }
+                return --references == 0 ? null : lock;
+            });
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 락 없이 CAS 로 포인트를 반영하는 엔진
+ * - 유저별 최신 상태를 AtomicReference 로 보관하고, 충전/사용은 현재 상태에 도메인 규칙을 적용한 새 상태로 compare-and-set 한다.
+ * - 재시도 횟수를 넘기면 유저 락을 잡고 반영해 경합이 심한 유저도 결국 처리되도록 한다.
+ * - 각 상태는 직전 상태를 가리키므로, 저장 스레드는 마지막으로 저장한 상태부터 최신 상태까지 반영 순서대로 테이블에 저장한다.
+ * - 로그가 켜져 있으면 CAS 성공 후 응답 전에 아직 기록되지 않은 변경을 반영 순서대로 로그에 남기고, 로그에 남은 변경까지만 테이블에 저장한다.
+ *   CAS 로 이미 반영된 변경은 되돌릴 수 없으므로 로그 기록에 실패해도 성공으로 응답하고, 오류 로그와 point.wal.failures 지표로 알린 뒤 다음 반영이나 저장 때 다시 기록한다.
+ * - 테이블 저장에 실패한 변경은 저장된 것으로 처리하지 않고, 오류 로그와 point.persist.failures 지표로 알린 뒤 일정 시간 후 그 변경부터 다시 저장한다.
+ *   실패가 이어지면 저장 대기 건수가 maxPendingWrites 에 닿아 새 요청은 PointUnavailableException 으로 거절된다.
+ * - 모든 변경이 저장된 유저의 상태는 제거해 메모리는 저장 대기 중인 유저 수만큼만 사용한다. 이후 요청은 테이블에서 잔고를 다시 읽는다.
+ *   상태가 있는 동안 조회는 상태의 잔고를 반환하므로, 캐시는 상태를 제거하기 직전에 유저 락 안에서 저장된 최신 잔고로 갱신한다.
+ */
+@Component
+public class OptimisticPointCommitter implements PointCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticPointCommitter.class);
+    private static final long PERSIST_RETRY_DELAY_MILLIS = 100L;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final OptimisticPointProperties properties;
+    private final ConcurrentHashMap<Long, UserState> states = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor persistExecutor;
+
+    public OptimisticPointCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserLockManager userLockManager, UserPointCache userPointCache, PointHistoryIndex pointHistoryIndex, PointSummaryIndex pointSummaryIndex, PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog, OptimisticPointProperties properties) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryIndex = pointSummaryIndex;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.properties = properties;
+        this.persistExecutor = properties.enabled() ? new ScheduledThreadPoolExecutor(properties.persistThreads()) : null;
+        if (persistExecutor != null) {
+            persistExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 메모리에 보관 중인 최신 잔고를 반환한다. 한 번도 반영된 적 없는 유저는 null 을 반환한다.
+     */
+    public UserPoint getBalance(long userId) {
+        UserState state = states.get(userId);
+        return state == null ? null : state.head.get().userPoint;
+    }
+
+    /**
+     * CAS 가 성공하기까지 걸린 시간(재시도와 유저 락 대기 포함)은 point.lock.wait, 유저 락을 잡고 반영한 시간은 point.lock.hold 로 기록한다.
+     */
+    @Override
+    public UserPoint commit(long userId, long amount, TransactionType type) {
+
+        UserState state = loadState(userId);
+        long startedAt = System.nanoTime();
+
+        for (int attempt = 0; attempt <= properties.maxRetries(); attempt++) {
+            Change committed = tryCommit(state, amount, type);
+            if (committed == Change.RETIRED) {
+                state = loadState(userId);
+                continue;
+            }
+            if (committed != null) {
+                pointMetrics.recordLockWait(type, System.nanoTime() - startedAt);
+                return afterCommit(userId, state, committed);
+            }
+        }
+
+        ReentrantLock lock = userLockManager.getLock(userId);
+        lock.lock();
+        long acquiredAt = System.nanoTime();
+        try {
+            Change committed;
+            do {
+                committed = tryCommit(state, amount, type);
+                if (committed == Change.RETIRED) {
+                    state = loadState(userId);
+                    committed = null;
+                }
+            } while (committed == null);
+            pointMetrics.recordLockWait(type, System.nanoTime() - startedAt);
+            return afterCommit(userId, state, committed);
+        } finally {
+            pointMetrics.recordLockHold(type, System.nanoTime() - acquiredAt);
+            lock.unlock();
+        }
+    }
+
+    public long pendingCount(long userId) {
+        UserState state = states.get(userId);
+        return state == null ? 0 : state.pendingCount();
+    }
+
+    /**
+     * 메모리에 상태를 보관 중인 유저 수를 반환한다.
+     */
+    public int activeUserCount() {
+        return states.size();
+    }
+
+    /**
+     * 메모리에 반영된 변경이 모두 테이블에 저장될 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 모두 저장되었는지 여부
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (states.values().stream().anyMatch(state -> state.pendingCount() > 0)) {
+            if (deadline <= System.currentTimeMillis()) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        if (persistExecutor == null) {
+            return;
+        }
+        states.forEach((userId, state) -> persist(userId, state));
+        persistExecutor.shutdown();
+        persistExecutor.awaitTermination(30, TimeUnit.SECONDS);
+
+        long unsaved = states.values().stream().mapToLong(UserState::pendingCount).sum();
+        if (unsaved > 0) {
+            log.error("종료 시점까지 테이블에 저장되지 못한 포인트 변경이 있습니다. count={}", unsaved);
+        }
+    }
+
+    private UserState loadState(long userId) {
+
+        UserState state = states.get(userId);
+        if (state != null && state.head.get() != Change.RETIRED) {
+            return state;
+        }
+
+        ReentrantLock lock = userLockManager.getLock(userId);
+        lock.lock();
+        try {
+            state = states.get(userId);
+            if (state == null || state.head.get() == Change.RETIRED) {
+                long startedAt = System.nanoTime();
+                UserPoint loaded = userPointRepository.selectById(userId);
+                pointMetrics.recordSelectById(System.nanoTime() - startedAt);
+                state = new UserState(loaded);
+                states.put(userId, state);
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * CAS 에 실패하면 null 을, 상태가 제거되었으면 Change.RETIRED 를 반환한다. 도메인 규칙 위반은 재시도 없이 예외로 전달한다.
+     */
+    private Change tryCommit(UserState state, long amount, TransactionType type) {
+
+        Change current = state.head.get();
+        if (current == Change.RETIRED) {
+            return current;
+        }
+        if (properties.maxPendingWrites() <= current.sequence - state.persistedSequence) {
+            throw new PointUnavailableException("포인트 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Change next = new Change(current.userPoint.apply(type, amount), amount, type, current.sequence + 1, current);
+        return state.head.compareAndSet(current, next) ? next : null;
+    }
+
+    private UserPoint afterCommit(long userId, UserState state, Change committed) {
+        appendLog(userId, state);
+        if (state.persistScheduled.compareAndSet(false, true)) {
+            persistExecutor.execute(() -> persistAndReschedule(userId, state));
+        }
+        return committed.userPoint;
+    }
+
+    private void persistAndReschedule(long userId, UserState state) {
+
+        if (!persist(userId, state)) {
+            schedulePersistRetry(userId, state);
+            return;
+        }
+        retireIfPersisted(userId, state);
+        state.persistScheduled.set(false);
+
+        if (state.pendingCount() > 0 && state.persistScheduled.compareAndSet(false, true)) {
+            persistExecutor.execute(() -> persistAndReschedule(userId, state));
+        }
+    }
+
+    /**
+     * 저장에 실패한 유저는 persistScheduled 를 유지한 채 일정 시간 뒤 다시 저장한다.
+     */
+    private void schedulePersistRetry(long userId, UserState state) {
+        try {
+            persistExecutor.schedule(() -> persistAndReschedule(userId, state), PERSIST_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            state.persistScheduled.set(false);
+            log.error("종료 중이라 포인트 저장을 다시 시도하지 않습니다. userId={}, pending={}", userId, state.pendingCount());
+        }
+    }
+
+    /**
+     * 모든 변경이 저장된 유저의 상태를 제거한다.
+     * 유저 락 안에서 최신 상태를 RETIRED 로 바꾸므로, 그사이 반영된 변경이 있으면 CAS 가 실패해 제거하지 않는다.
+     * 캐시는 RETIRED 로 바꾸기 전에 갱신해, 상태가 사라진 뒤의 조회가 이전 잔고를 읽지 않도록 한다.
+     */
+    private void retireIfPersisted(long userId, UserState state) {
+
+        ReentrantLock lock = userLockManager.tryLock(userId);
+        if (lock == null) {
+            return;
+        }
+        try {
+            Change current = state.head.get();
+            if (current == Change.RETIRED || current.sequence != state.persistedSequence) {
+                return;
+            }
+            userPointCache.put(current.userPoint);
+            if (state.head.compareAndSet(current, Change.RETIRED)) {
+                states.remove(userId, state);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 로그에 남지 않은 변경을 반영 순서대로 기록한다. 먼저 잠금을 얻은 스레드가 그사이 쌓인 변경까지 함께 기록한다.
+     */
+    private boolean appendLog(long userId, UserState state) {
+
+        if (!pointWriteAheadLog.isEnabled()) {
+            return true;
+        }
+
+        state.logLock.lock();
+        try {
+            Deque<Change> unlogged = new ArrayDeque<>();
+            for (Change change = state.head.get(); change != null && change.sequence > state.loggedSequence; change = change.previous) {
+                unlogged.push(change);
+            }
+            if (unlogged.isEmpty()) {
+                return true;
+            }
+
+            long lastLsn = 0L;
+            for (Change change : unlogged) {
+                lastLsn = pointWriteAheadLog.appendDeferred(userId, change.type, change.amount, change.userPoint.updateMillis());
+                // 기록된 레코드는 다시 기록하지 않도록 바로 순번을 올린다. 강제 기록은 다음 기록 때 함께 이루어진다.
+                state.loggedSequence = change.sequence;
+            }
+            pointWriteAheadLog.awaitAppended(lastLsn);
+            return true;
+        } catch (RuntimeException e) {
+            pointMetrics.recordWalFailure();
+            log.error("반영된 포인트 변경을 로그에 남기지 못했습니다. userId={}, loggedSequence={}", userId, state.loggedSequence, e);
+            return false;
+        } finally {
+            state.logLock.unlock();
+        }
+    }
+
+    /**
+     * 테이블에 저장해도 되는 마지막 순번. 로그가 켜져 있으면 로그에 남은 변경까지만 저장한다.
+     */
+    private long persistableSequence(UserState state) {
+        return pointWriteAheadLog.isEnabled() ? state.loggedSequence : state.head.get().sequence;
+    }
+
+    /**
+     * 마지막으로 저장한 상태 이후의 변경을 반영 순서대로 저장하고, 모두 저장했는지 여부를 반환한다.
+     * - 저장에 실패하면 그 변경부터는 저장된 것으로 처리하지 않는다. 유저 포인트와 포인트 내역 중 이미 저장한 쪽은 다시 저장하지 않는다.
+     */
+    private boolean persist(long userId, UserState state) {
+
+        boolean logged = appendLog(userId, state);
+        state.persistLock.lock();
+        try {
+            long persistable = persistableSequence(state);
+            Deque<Change> pending = new ArrayDeque<>();
+            for (Change change = state.head.get(); change != null && change.sequence > state.persistedSequence; change = change.previous) {
+                if (change.sequence <= persistable) {
+                    pending.push(change);
+                }
+            }
+
+            for (Change change : pending) {
+                try {
+                    if (!change.balanceSaved) {
+                        long startedAt = System.nanoTime();
+                        userPointRepository.insertOrUpdate(userId, change.userPoint.point());
+                        pointMetrics.recordInsertOrUpdate(System.nanoTime() - startedAt);
+                        change.balanceSaved = true;
+                    }
+                    long startedAt = System.nanoTime();
+                    PointHistory pointHistory = pointHistoryRepository.insert(userId, change.amount, change.type, change.userPoint.updateMillis());
+                    pointMetrics.recordHistoryInsert(System.nanoTime() - startedAt);
+                    pointHistoryIndex.record(pointHistory);
+                    pointSummaryIndex.record(pointHistory);
+                } catch (RuntimeException e) {
+                    pointMetrics.recordPersistFailure();
+                    log.error("포인트 저장 작업 처리 중 오류가 발생해 다시 시도합니다. userId={}, sequence={}", userId, change.sequence, e);
+                    return false;
+                }
+                change.previous = null;
+                state.persistedSequence = change.sequence;
+            }
+            return logged;
+        } finally {
+            state.persistLock.unlock();
+        }
+    }
+
+    private static class UserState {
+
+        private final AtomicReference<Change> head;
+        private final AtomicBoolean persistScheduled = new AtomicBoolean();
+        private final ReentrantLock persistLock = new ReentrantLock();
+        private final ReentrantLock logLock = new ReentrantLock();
+        private volatile long persistedSequence;
+        private volatile long loggedSequence;
+
+        private UserState(UserPoint loaded) {
+            this.head = new AtomicReference<>(new Change(loaded, 0, null, 0, null));
+        }
+
+        private long pendingCount() {
+            Change current = head.get();
+            return current == Change.RETIRED ? 0 : current.sequence - persistedSequence;
+        }
+    }
+
+    /**
+     * CAS 로 반영된 하나의 변경. previous 는 저장이 끝나면 끊어 이미 저장된 변경이 메모리에 남지 않도록 한다.
+     * - RETIRED 는 제거된 상태의 최신 변경 자리에 두어, 이 상태로 반영하려던 요청이 상태를 다시 읽도록 한다.
+     * - balanceSaved 는 persistLock 안에서만 읽고 쓴다.
+     */
+    private static class Change {
+
+        private static final Change RETIRED = new Change(null, 0, null, -1, null);
+
+        private final UserPoint userPoint;
+        private final long amount;
+        private final TransactionType type;
+        private final long sequence;
+        private volatile Change previous;
+        private boolean balanceSaved;
+
+        private Change(UserPoint userPoint, long amount, TransactionType type, long sequence, Change previous) {
+            this.userPoint = userPoint;
+            this.amount = amount;
+            this.type = type;
+            this.sequence = sequence;
+            this.previous = previous;
+        }
+    }
+}
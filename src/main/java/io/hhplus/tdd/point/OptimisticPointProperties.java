@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 낙관적(CAS) 포인트 반영 설정
+ * - enabled : 활성화 시 유저 락 없이 메모리 잔고에 CAS 로 반영하고 테이블 저장은 비동기로 순서대로 처리
+ * - maxRetries : CAS 재시도 횟수, 초과 시 유저 락을 잡고 반영
+ * - maxPendingWrites : 유저별로 아직 저장되지 않은 반영 건수 한도, 초과 시 요청 거절
+ * - persistThreads : 테이블 저장 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.optimistic")
+public record OptimisticPointProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8") int maxRetries,
+        @DefaultValue("1000") int maxPendingWrites,
+        @DefaultValue("4") int persistThreads
+) {
+
+    public OptimisticPointProperties {
+
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("CAS 재시도 횟수는 0 이상이어야 합니다.");
+        }
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("저장 대기 건수 한도는 0보다 커야 합니다.");
+        }
+        if (persistThreads <= 0) {
+            throw new IllegalArgumentException("저장 스레드 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static OptimisticPointProperties disabled() {
+        return new OptimisticPointProperties(false, 8, 1000, 4);
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저마다 락을 만들어 계속 보관하는 방식
+ */
+class PerUserLockStrategy implements UserLockStrategy {
+
+    private final boolean fair;
+    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+
+    PerUserLockStrategy(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public ReentrantLock getLock(long userId) {
+        return lockMap.computeIfAbsent(userId, key -> new ContentionTrackingLock(fair, acquireCount, contendedCount));
+    }
+
+    @Override
+    public UserLockStats stats() {
+        return new UserLockStats(UserLockStrategyType.PER_USER, lockMap.size(), acquireCount.sum(), contendedCount.sum());
+    }
+}
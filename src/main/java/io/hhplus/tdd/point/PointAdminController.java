@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/point")
+public class PointAdminController {
+
+    private final PointHotUserDetector pointHotUserDetector;
+
+    public PointAdminController(PointHotUserDetector pointHotUserDetector) {
+        this.pointHotUserDetector = pointHotUserDetector;
+    }
+
+    /**
+     * 요청이 몰려 묶음 처리 중인 유저를 처리 중인 요청 수가 많은 순서로 조회한다.
+     * 클러스터 모드에서는 이 노드가 담당하는 유저만 반환한다.
+     */
+    @GetMapping("hot-users")
+    public List<PointHotUser> hotUsers() {
+        return pointHotUserDetector.hotUsers();
+    }
+}
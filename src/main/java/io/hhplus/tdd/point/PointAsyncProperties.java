@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 포인트 API 설정
+ * - threads : 비동기 요청을 처리하는 스레드 수
+ * - maxPending : 처리 중이거나 대기 중인 최대 요청 수, 초과 시 요청을 거절
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record PointAsyncProperties(
+        @DefaultValue("8") int threads,
+        @DefaultValue("10000") int maxPending
+) {
+
+    public PointAsyncProperties {
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("비동기 처리 스레드 수는 0보다 커야 합니다.");
+        }
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("비동기 대기 요청 최대 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointAsyncProperties defaults() {
+        return new PointAsyncProperties(8, 10000);
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PointService 의 비동기 버전
+ * - 요청 스레드는 작업을 전용 스레드 풀에 넘기고 바로 반환되며, 결과는 CompletableFuture 로 전달된다.
+ * - 같은 유저의 충전/사용은 앞선 작업의 future 가 끝난 뒤에 이어서 실행되도록 연결해, 같은 유저의 비동기 작업끼리 풀의 스레드를 잡은 채 서로를 기다리지 않는다.
+ *   작업은 PointService 를 그대로 거치므로 동기 API 와 같은 규칙이 적용되고, 동기 요청과도 유저 락으로 직렬화된다.
+ *   따라서 풀의 스레드도 동기 요청과 경합하면 유저 락을 기다리며 막히고, 메일박스/묶음 처리 모드에서는 결과가 나올 때까지 join() 으로 막힌다. threads 는 이를 감안해 정한다.
+ * - 유저별로 마지막 작업만 기억하고 작업이 끝나면 지워, 대기 중인 작업이 없는 유저는 메모리를 차지하지 않는다.
+ * - 처리 중이거나 대기 중인 요청이 maxPending 을 넘으면 PointUnavailableException 으로 완료된 future 를 반환한다.
+ * - 종료되어 스레드 풀이 작업을 받지 않으면 해당 작업과 그 뒤에 이어진 같은 유저의 작업을 PointUnavailableException 으로 완료한다.
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final PointAsyncProperties properties;
+    private final ExecutorService executor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> lastTasks = new ConcurrentHashMap<>();
+
+    public PointAsyncService(PointService pointService, PointAsyncProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(properties.threads());
+    }
+
+    public CompletableFuture<UserPoint> getUserPointById(long id) {
+        return submit(() -> pointService.getUserPointById(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> getPointHistoriesByUserId(long userId) {
+        return submit(() -> pointService.getPointHistoriesByUserId(userId));
+    }
+
+    public CompletableFuture<UserPoint> charge(long id, long amount) {
+        return submitInOrder(id, () -> pointService.charge(id, amount));
+    }
+
+    public CompletableFuture<UserPoint> use(long id, long amount) {
+        return submitInOrder(id, () -> pointService.use(id, amount));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+
+        if (!tryAcquire()) {
+            return rejected();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> complete(result, task));
+        } catch (RejectedExecutionException e) {
+            reject(result, e);
+        }
+        return result;
+    }
+
+    private <T> CompletableFuture<T> submitInOrder(long userId, Supplier<T> task) {
+
+        if (!tryAcquire()) {
+            return rejected();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Runnable finish = () -> {
+            lastTasks.remove(userId, done);
+            done.complete(null);
+        };
+        Runnable start = () -> {
+            try {
+                executor.execute(() -> {
+                    try {
+                        complete(result, task);
+                    } finally {
+                        finish.run();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                reject(result, e);
+                finish.run();
+            }
+        };
+
+        CompletableFuture<Void> previous = lastTasks.put(userId, done);
+        if (previous == null) {
+            start.run();
+        } else {
+            previous.whenComplete((ignored, e) -> start.run());
+        }
+        return result;
+    }
+
+    private <T> void complete(CompletableFuture<T> result, Supplier<T> task) {
+        try {
+            result.complete(task.get());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        } finally {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 스레드 풀이 받지 않은 작업을 PointUnavailableException 으로 완료하고 대기 수에서 뺀다.
+     */
+    private <T> void reject(CompletableFuture<T> result, RejectedExecutionException e) {
+        pendingCount.decrementAndGet();
+        result.completeExceptionally(new PointUnavailableException("비동기 처리가 종료되었습니다.", e));
+    }
+
+    private boolean tryAcquire() {
+        if (pendingCount.incrementAndGet() > properties.maxPending()) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static <T> CompletableFuture<T> rejected() {
+        return CompletableFuture.failedFuture(new PointUnavailableException("비동기 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
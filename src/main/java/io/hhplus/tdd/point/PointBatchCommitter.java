@@ -0,0 +1,217 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 같은 유저의 충전/사용 요청을 모아서 처리하는 group commit 엔진
+ * - 유저 락을 먼저 잡은 요청이 그때까지 쌓인 요청들을 도착 순서대로 한 번의 조회 결과에 반영한다.
+ * - 한도 초과, 잔고 부족 등 도메인 규칙을 어기는 요청만 개별적으로 실패 처리한다.
+ * - 로그는 반영된 요청마다 테이블 저장 전에 남기고, 유저 포인트는 한 번만 저장하며, 포인트 내역은 반영된 요청마다 저장한다.
+ * - 포인트 내역과 응답의 updateMillis 는 로그에 남긴 값을 그대로 사용해, 로그를 재생해 복구한 내역과 같아지도록 한다.
+ */
+@Component
+public class PointBatchCommitter implements PointCommitter {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointBatchProperties properties;
+    private final ConcurrentHashMap<Long, Queue<PendingOperation>> pendingMap = new ConcurrentHashMap<>();
+
+    public PointBatchCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserLockManager userLockManager, UserPointCache userPointCache, PointHistoryIndex pointHistoryIndex, PointSummaryIndex pointSummaryIndex, PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog, PointBatchProperties properties) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryIndex = pointSummaryIndex;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public UserPoint commit(long userId, long amount, TransactionType type) {
+        return commit(userId, amount, type, lockWaitNanos -> {
+        });
+    }
+
+    /**
+     * 유저 락을 얻기까지 기다린 시간을 onLockWait 으로도 전달한다. 요청이 몰린 유저 감지가 묶음 처리 중에도 락 대기 신호를 받도록 한다.
+     */
+    public UserPoint commit(long userId, long amount, TransactionType type, LongConsumer onLockWait) {
+
+        PendingOperation operation = new PendingOperation(amount, type);
+        Queue<PendingOperation> pending = pendingMap.computeIfAbsent(userId, key -> new ConcurrentLinkedQueue<>());
+        pending.add(operation);
+
+        ReentrantLock lock = userLockManager.getLock(userId);
+        long waitStartedAt = System.nanoTime();
+        lock.lock();
+        long acquiredAt = System.nanoTime();
+        pointMetrics.recordLockWait(type, acquiredAt - waitStartedAt);
+        onLockWait.accept(acquiredAt - waitStartedAt);
+        try {
+            while (!operation.result.isDone()) {
+                commitBatch(userId, pending);
+            }
+            if (pending.isEmpty()) {
+                pendingMap.remove(userId, pending);
+            }
+        } finally {
+            pointMetrics.recordLockHold(type, System.nanoTime() - acquiredAt);
+            lock.unlock();
+        }
+
+        return operation.join();
+    }
+
+    private void commitBatch(long userId, Queue<PendingOperation> pending) {
+
+        List<PendingOperation> batch = new ArrayList<>();
+        PendingOperation next;
+        while (batch.size() < properties.maxBatchSize() && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+
+        UserPoint userPoint;
+        try {
+            userPoint = userPointCache.isEnabled()
+                    ? userPointCache.get(userId, this::selectById)
+                    : selectById(userId);
+        } catch (RuntimeException e) {
+            batch.forEach(operation -> operation.result.completeExceptionally(e));
+            return;
+        }
+
+        List<PendingOperation> applied = new ArrayList<>();
+        for (PendingOperation operation : batch) {
+            try {
+                userPoint = userPoint.apply(operation.type, operation.amount);
+                operation.point = userPoint.point();
+                operation.updateMillis = userPoint.updateMillis();
+                applied.add(operation);
+            } catch (IllegalArgumentException e) {
+                operation.result.completeExceptionally(e);
+            }
+        }
+        applied = appendLog(userId, applied);
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        UserPoint saved;
+        try {
+            long startedAt = System.nanoTime();
+            saved = userPointRepository.insertOrUpdate(userId, applied.get(applied.size() - 1).point);
+            pointMetrics.recordInsertOrUpdate(System.nanoTime() - startedAt);
+            userPointCache.put(saved);
+        } catch (RuntimeException e) {
+            applied.forEach(operation -> operation.result.completeExceptionally(e));
+            return;
+        }
+
+        for (PendingOperation operation : applied) {
+            try {
+                long startedAt = System.nanoTime();
+                PointHistory pointHistory = pointHistoryRepository.insert(userId, operation.amount, operation.type, operation.updateMillis);
+                pointMetrics.recordHistoryInsert(System.nanoTime() - startedAt);
+                pointHistoryIndex.record(pointHistory);
+                pointSummaryIndex.record(pointHistory);
+                operation.result.complete(new UserPoint(userId, operation.point, operation.updateMillis));
+            } catch (RuntimeException e) {
+                operation.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private UserPoint selectById(long userId) {
+        long startedAt = System.nanoTime();
+        try {
+            return userPointRepository.selectById(userId);
+        } finally {
+            pointMetrics.recordSelectById(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 반영된 요청을 순서대로 로그에 남기고, 테이블에 저장할 요청 목록을 반환한다.
+     * - 기록에 실패하면 그 요청부터 뒤의 요청은 실패 처리하고, 앞서 기록된 요청까지만 저장한다.
+     * - 강제 기록 대기에 실패하면 모든 요청을 실패 처리한다.
+     */
+    private List<PendingOperation> appendLog(long userId, List<PendingOperation> applied) {
+
+        if (!pointWriteAheadLog.isEnabled() || applied.isEmpty()) {
+            return applied;
+        }
+
+        int logged = 0;
+        long lastLsn = 0L;
+        try {
+            for (PendingOperation operation : applied) {
+                lastLsn = pointWriteAheadLog.appendDeferred(userId, operation.type, operation.amount, operation.updateMillis);
+                logged++;
+            }
+        } catch (RuntimeException e) {
+            applied.subList(logged, applied.size()).forEach(operation -> operation.result.completeExceptionally(e));
+            applied = applied.subList(0, logged);
+        }
+        if (applied.isEmpty()) {
+            return applied;
+        }
+
+        try {
+            pointWriteAheadLog.awaitAppended(lastLsn);
+        } catch (RuntimeException e) {
+            applied.forEach(operation -> operation.result.completeExceptionally(e));
+            return List.of();
+        }
+        return applied;
+    }
+
+    private static class PendingOperation {
+
+        private final long amount;
+        private final TransactionType type;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private long point;
+        private long updateMillis;
+
+        private PendingOperation(long amount, TransactionType type) {
+            this.amount = amount;
+            this.type = type;
+        }
+
+        private UserPoint join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 묶음 처리(group commit) 설정
+ * - enabled : 활성화 시 같은 유저에게 몰린 충전/사용 요청을 한 번의 조회/저장으로 묶어서 처리
+ * - maxBatchSize : 한 번에 묶어서 처리하는 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxBatchSize
+) {
+
+    public PointBatchProperties {
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("묶음 처리 최대 크기는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointBatchProperties disabled() {
+        return new PointBatchProperties(false, 100);
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 유저의 포인트 충전/사용 작업을 한 번에 처리한다.
+ * - 작업을 유저별로 묶어 서로 다른 유저는 병렬로, 같은 유저는 요청 순서대로 처리한다.
+ * - 각 작업은 PointService 를 그대로 거치므로 락, 한도 등 단건 요청과 같은 규칙이 적용된다.
+ * - 한 작업의 실패는 해당 작업의 결과에만 담기고 나머지 작업은 계속 처리한다.
+ */
+@Component
+public class PointBulkExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBulkExecutor.class);
+
+    private final PointService pointService;
+    private final PointBulkProperties properties;
+    private final ExecutorService executor;
+
+    public PointBulkExecutor(PointService pointService, PointBulkProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(properties.parallelism());
+    }
+
+    public List<PointOperationResult> execute(List<PointOperation> operations) {
+
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("일괄 작업은 1개 이상이어야 합니다.");
+        }
+        if (operations.size() > properties.maxOperations()) {
+            throw new IllegalArgumentException("일괄 작업은 " + properties.maxOperations() + "개 이하여야 합니다.");
+        }
+
+        Map<Long, List<Integer>> indexesByUserId = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            if (operation == null) {
+                throw new IllegalArgumentException("일괄 작업 항목은 비어 있을 수 없습니다.");
+            }
+            indexesByUserId.computeIfAbsent(operation.userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        CompletableFuture<?>[] futures = indexesByUserId.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(() -> executeInOrder(operations, indexes, results), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void executeInOrder(List<PointOperation> operations, List<Integer> indexes, PointOperationResult[] results) {
+        for (int index : indexes) {
+            PointOperation operation = operations.get(index);
+            results[index] = executeOne(operation);
+        }
+    }
+
+    private PointOperationResult executeOne(PointOperation operation) {
+        try {
+            return PointOperationResult.success(operation, apply(operation));
+        } catch (IllegalArgumentException e) {
+            return PointOperationResult.failure(operation, new ErrorResponse("400", e.getMessage()));
+        } catch (PointUnavailableException e) {
+            return PointOperationResult.failure(operation, new ErrorResponse("503", e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("일괄 작업 처리 실패 userId={}", operation.userId(), e);
+            return PointOperationResult.failure(operation, new ErrorResponse("500", "에러가 발생했습니다."));
+        }
+    }
+
+    private UserPoint apply(PointOperation operation) {
+
+        if (operation.type() == null) {
+            throw new IllegalArgumentException("트랜잭션 타입은 필수입니다.");
+        }
+
+        return switch (operation.type()) {
+            case CHARGE -> pointService.charge(operation.userId(), operation.amount());
+            case USE -> pointService.use(operation.userId(), operation.amount());
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 일괄 충전/사용 설정
+ * - maxOperations : 한 요청에 담을 수 있는 최대 작업 수
+ * - parallelism : 서로 다른 유저의 작업을 동시에 처리할 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.bulk")
+public record PointBulkProperties(
+        @DefaultValue("10000") int maxOperations,
+        @DefaultValue("8") int parallelism
+) {
+
+    public PointBulkProperties {
+
+        if (maxOperations <= 0) {
+            throw new IllegalArgumentException("일괄 작업 최대 수는 0보다 커야 합니다.");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("일괄 작업 스레드 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointBulkProperties defaults() {
+        return new PointBulkProperties(10000, 8);
+    }
+}
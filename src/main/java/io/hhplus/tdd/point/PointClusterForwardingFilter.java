@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 클러스터 모드에서 다른 노드가 담당하는 유저의 요청을 담당 노드로 전달한다.
+ * - /point/{id}/** 와 /point/async/{id}/** 요청만 전달하고, 응답 상태와 본문을 그대로 돌려준다.
+ * - 전달한 요청에는 X-Point-Forwarded-By 헤더를 붙여 다시 전달하지 않는다.
+ *   헤더가 붙은 요청이라도 이 노드가 담당하지 않는 유저라면 처리하지 않고 421 을 반환한다. (노드 목록이 노드마다 다르게 설정된 경우)
+ * - 담당 노드에 연결하지 못하거나 응답이 늦으면 503 을 반환한다.
+ */
+@Component
+public class PointClusterForwardingFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_BY_HEADER = "X-Point-Forwarded-By";
+
+    private static final Logger log = LoggerFactory.getLogger(PointClusterForwardingFilter.class);
+    private static final Pattern USER_PATH = Pattern.compile("^/point/(?:async/)?(\\d+)(?:/.*)?$");
+    private static final List<String> FORWARDED_HEADERS = List.of("Content-Type", "Accept", "Idempotency-Key");
+
+    private final PointClusterRouter pointClusterRouter;
+    private final PointClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public PointClusterForwardingFilter(PointClusterRouter pointClusterRouter, PointClusterProperties properties, ObjectMapper objectMapper) {
+        this.pointClusterRouter = pointClusterRouter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = properties.enabled()
+                ? HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofMillis(properties.forwardTimeoutMillis()))
+                        .build()
+                : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pointClusterRouter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long userId;
+        try {
+            userId = Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (pointClusterRouter.isLocal(userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+
+        String owner = pointClusterRouter.ownerOf(userId);
+        String forwardedBy = request.getHeader(FORWARDED_BY_HEADER);
+        if (forwardedBy != null) {
+            log.warn("다른 노드가 담당하는 유저의 요청이 전달되었습니다. 노드 목록 설정을 확인해주세요. forwardedBy={}, owner={}, path={}", forwardedBy, owner, path);
+            writeError(response, 421, "이 노드가 담당하지 않는 유저의 요청입니다. 노드 목록 설정을 확인해주세요.");
+            return;
+        }
+
+        forward(owner, path, request, response);
+    }
+
+    private void forward(String owner, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        String query = request.getQueryString();
+        URI uri = URI.create(owner + path + (query != null ? "?" + query : ""));
+        byte[] body = request.getInputStream().readAllBytes();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(properties.forwardTimeoutMillis()))
+                .header(FORWARDED_BY_HEADER, pointClusterRouter.self())
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String header : FORWARDED_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                builder.header(header, value);
+            }
+        }
+
+        HttpResponse<InputStream> forwarded;
+        try {
+            forwarded = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            log.warn("담당 노드에 요청을 전달하지 못했습니다. owner={}, path={}", owner, path, e);
+            writeUnavailable(response);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeUnavailable(response);
+            return;
+        }
+
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().firstValue("Content-Type").ifPresent(response::setContentType);
+        try (InputStream in = forwarded.body()) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    private void writeUnavailable(HttpServletResponse response) throws IOException {
+        writeError(response, 503, "담당 노드에 요청을 전달하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(String.valueOf(status), message));
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointBalanceStoreProperties;
+import io.hhplus.tdd.database.PointBalanceStoreType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 클러스터 모드에서 노드 목록이 바뀐 채로 시작하는 것을 막는다.
+ * - 노드 목록이 바뀌면 일부 유저의 담당 노드가 바뀌고, 새 담당 노드에는 그 유저의 잔고가 없어 0 에서 다시 시작한다.
+ * - 시작할 때마다 노드 목록과 노드별 해시 링 점의 수를 stateDirectory 에 기록하고, 기록과 다르면 시작하지 않는다.
+ * - 잔고가 재시작 후에도 남는 저장소(file 저장소 또는 포인트 로그)를 쓰는 경우에만, 이전 담당 노드의 데이터를 옮길 수 있으므로 경고를 남기고 시작한다.
+ */
+@Component
+public class PointClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(PointClusterMembership.class);
+
+    private final PointClusterProperties properties;
+    private final PointBalanceStoreProperties balanceStoreProperties;
+    private final PointWalProperties walProperties;
+
+    public PointClusterMembership(PointClusterProperties properties, PointBalanceStoreProperties balanceStoreProperties, PointWalProperties walProperties) {
+        this.properties = properties;
+        this.balanceStoreProperties = balanceStoreProperties;
+        this.walProperties = walProperties;
+    }
+
+    @PostConstruct
+    public void verify() {
+
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Path file = Path.of(properties.stateDirectory()).resolve(fileName(properties.self()));
+        String current = describe();
+        String previous = read(file);
+
+        if (previous != null && !previous.equals(current)) {
+            if (!isPersistent()) {
+                throw new IllegalStateException("클러스터 노드 목록이 바뀌었지만 잔고가 재시작 후에 남지 않는 저장소를 사용하고 있어, 담당 노드가 바뀐 유저의 잔고가 사라집니다. "
+                        + "file 저장소나 포인트 로그를 사용하거나, 데이터를 옮긴 뒤 " + file + " 를 삭제하고 다시 시작해주세요.");
+            }
+            log.warn("클러스터 노드 목록이 바뀌었습니다. 담당 노드가 바뀐 유저의 잔고는 이전 담당 노드의 저장소에 남아 있으므로 옮겨야 합니다. previous={}, current={}",
+                    previous.replace('\n', ','), current.replace('\n', ','));
+        }
+        write(file, current);
+    }
+
+    private boolean isPersistent() {
+        return balanceStoreProperties.type() == PointBalanceStoreType.FILE || walProperties.enabled();
+    }
+
+    /**
+     * 해시 링은 노드 순서와 상관없이 같으므로 정렬한 노드 목록을 기록한다.
+     */
+    private String describe() {
+        return "virtualNodes=" + properties.virtualNodes() + "\n" + String.join("\n", properties.nodes().stream().sorted().toList());
+    }
+
+    private static String fileName(String self) {
+        return "members-" + self.replaceAll("[^A-Za-z0-9.-]", "_") + ".txt";
+    }
+
+    private static String read(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("클러스터 노드 목록 기록을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void write(Path file, String members) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, members, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("클러스터 노드 목록을 기록할 수 없습니다.", e);
+        }
+    }
+}
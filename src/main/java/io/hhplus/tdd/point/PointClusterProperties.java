@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 클러스터 모드 설정
+ * - enabled : 활성화 시 유저마다 담당 노드를 정하고, 다른 노드가 담당하는 유저의 요청은 담당 노드로 전달
+ * - self : 이 노드의 주소 (예: http://localhost:8080), nodes 에 포함되어야 함
+ * - nodes : 클러스터에 속한 모든 노드의 주소, 모든 노드가 같은 목록을 사용해야 함
+ * - virtualNodes : 노드마다 해시 링에 놓는 점의 수, 클수록 유저가 고르게 나뉨
+ * - forwardTimeoutMillis : 담당 노드로 전달한 요청의 응답을 기다리는 시간
+ * - stateDirectory : 마지막으로 시작한 노드 목록을 기록하는 디렉터리, 노드 목록이 바뀌었는지 확인하는 데 사용
+ */
+@ConfigurationProperties(prefix = "point.cluster")
+public record PointClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("") String self,
+        @DefaultValue List<String> nodes,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue("3000") long forwardTimeoutMillis,
+        @DefaultValue("data/cluster") String stateDirectory
+) {
+
+    public PointClusterProperties {
+
+        nodes = nodes == null ? List.of() : nodes.stream().map(PointClusterProperties::normalize).toList();
+        self = self == null ? "" : normalize(self);
+
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("노드별 해시 링 점의 수는 0보다 커야 합니다.");
+        }
+        if (forwardTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("요청 전달 대기 시간은 0보다 커야 합니다.");
+        }
+        if (enabled && (stateDirectory == null || stateDirectory.isBlank())) {
+            throw new IllegalArgumentException("클러스터 모드에서는 노드 목록 기록 디렉터리가 필수입니다.");
+        }
+        if (enabled && self.isBlank()) {
+            throw new IllegalArgumentException("클러스터 모드에서는 이 노드의 주소가 필수입니다.");
+        }
+        if (enabled && !nodes.contains(self)) {
+            throw new IllegalArgumentException("클러스터 노드 목록에 이 노드의 주소가 포함되어야 합니다. self=" + self);
+        }
+    }
+
+    public static PointClusterProperties disabled() {
+        return new PointClusterProperties(false, "", List.of(), 128, 3000L, "data/cluster");
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
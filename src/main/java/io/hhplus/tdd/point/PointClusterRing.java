@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 유저 담당 노드를 정하는 일관된 해시(consistent hashing) 링
+ * - 노드마다 virtualNodes 개의 점을 링에 놓고, 유저 아이디의 해시에서 시계 방향으로 처음 만나는 점의 노드가 유저를 담당한다.
+ * - 노드가 추가되면 새 노드의 점 바로 앞 구간에 있던 유저(약 1/N)만 새 노드로 옮겨가고, 나머지 유저의 담당 노드는 바뀌지 않는다.
+ * - 해시는 MD5 의 앞 8 바이트를 사용해, 같은 노드 목록이면 모든 노드가 같은 링을 만든다.
+ */
+public class PointClusterRing {
+
+    private final TreeMap<Long, String> points = new TreeMap<>();
+    private final Set<String> nodes;
+
+    public PointClusterRing(Collection<String> nodes, int virtualNodes) {
+
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("클러스터 노드는 1개 이상이어야 합니다.");
+        }
+
+        this.nodes = Set.copyOf(nodes);
+        for (String node : new TreeSet<>(nodes)) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public String ownerOf(long userId) {
+        Map.Entry<Long, String> point = points.ceilingEntry(hash(Long.toString(userId)));
+        return (point != null ? point : points.firstEntry()).getValue();
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 클러스터 모드에서 유저의 담당 노드를 알려준다.
+ * - 같은 유저의 충전/사용은 담당 노드 한 곳에서만 처리되어, 노드 안의 유저 락만으로 직렬화된다.
+ * - 비활성화된 경우 모든 유저를 이 노드가 담당한다.
+ */
+@Component
+public class PointClusterRouter {
+
+    private final PointClusterProperties properties;
+    private final PointClusterRing ring;
+
+    public PointClusterRouter(PointClusterProperties properties) {
+        this.properties = properties;
+        this.ring = properties.enabled() ? new PointClusterRing(properties.nodes(), properties.virtualNodes()) : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public String self() {
+        return properties.self();
+    }
+
+    public String ownerOf(long userId) {
+        return isEnabled() ? ring.ownerOf(userId) : properties.self();
+    }
+
+    public boolean isLocal(long userId) {
+        return !isEnabled() || properties.self().equals(ring.ownerOf(userId));
+    }
+
+    /**
+     * 여러 유저를 한 번에 다루는 요청은 전달하지 않으므로, 이 노드가 담당하지 않는 유저가 있으면 IllegalArgumentException 을 던진다.
+     */
+    public void requireLocal(Collection<Long> userIds) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (Long userId : userIds) {
+            if (userId != null && !isLocal(userId)) {
+                throw new IllegalArgumentException("다른 노드가 담당하는 유저는 함께 요청할 수 없습니다. userId=" + userId + ", owner=" + ring.ownerOf(userId));
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 처리 방식, 한 번에 하나만 활성화할 수 있다.
+ * - LOCK : 유저 락을 잡고 조회/저장 (기본)
+ * - WRITE_BEHIND : 유저 락 안에서 메모리 잔고에만 반영하고 테이블 저장은 대기열로 처리 (point.write-behind)
+ * - BATCH : 같은 유저에게 몰린 요청을 묶어서 처리 (point.batch)
+ * - OPTIMISTIC : 유저 락 없이 CAS 로 메모리 잔고에 반영 (point.optimistic)
+ * - MAILBOX : 유저별 메일박스를 워커가 차례로 처리 (point.mailbox)
+ * - HOT_USER : 요청이 몰린 유저만 묶어서 처리하고 나머지는 유저 락 (point.hot-user)
+ */
+public enum PointCommitMode {
+    LOCK, WRITE_BEHIND, BATCH, OPTIMISTIC, MAILBOX, HOT_USER
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 충전/사용 처리 방식별 구현을 모아 두고, 설정에서 활성화된 방식을 정한다.
+ * - 처리 방식은 하나만 활성화할 수 있으며, 둘 이상 활성화되면 시작 시 IllegalArgumentException 을 던진다.
+ * - 아무 방식도 활성화되지 않으면 유저 락 방식(LOCK)을 사용한다.
+ */
+@Component
+public class PointCommitModes {
+
+    private final PointWriteBehindQueue pointWriteBehindQueue;
+    private final PointBatchCommitter pointBatchCommitter;
+    private final OptimisticPointCommitter optimisticPointCommitter;
+    private final PointMailboxCommitter pointMailboxCommitter;
+    private final PointHotUserDetector pointHotUserDetector;
+    private final PointCommitMode mode;
+
+    public PointCommitModes(PointWriteBehindQueue pointWriteBehindQueue, PointBatchCommitter pointBatchCommitter, OptimisticPointCommitter optimisticPointCommitter, PointMailboxCommitter pointMailboxCommitter, PointHotUserDetector pointHotUserDetector) {
+        this.pointWriteBehindQueue = pointWriteBehindQueue;
+        this.pointBatchCommitter = pointBatchCommitter;
+        this.optimisticPointCommitter = optimisticPointCommitter;
+        this.pointMailboxCommitter = pointMailboxCommitter;
+        this.pointHotUserDetector = pointHotUserDetector;
+
+        List<PointCommitMode> enabled = new ArrayList<>();
+        if (pointWriteBehindQueue.isEnabled()) {
+            enabled.add(PointCommitMode.WRITE_BEHIND);
+        }
+        if (pointBatchCommitter.isEnabled()) {
+            enabled.add(PointCommitMode.BATCH);
+        }
+        if (optimisticPointCommitter.isEnabled()) {
+            enabled.add(PointCommitMode.OPTIMISTIC);
+        }
+        if (pointMailboxCommitter.isEnabled()) {
+            enabled.add(PointCommitMode.MAILBOX);
+        }
+        if (pointHotUserDetector.isEnabled()) {
+            enabled.add(PointCommitMode.HOT_USER);
+        }
+        if (enabled.size() > 1) {
+            throw new IllegalArgumentException("충전/사용 처리 방식은 하나만 활성화할 수 있습니다. enabled=" + enabled);
+        }
+        this.mode = enabled.isEmpty() ? PointCommitMode.LOCK : enabled.get(0);
+    }
+
+    public PointCommitMode mode() {
+        return mode;
+    }
+
+    /**
+     * 유저 락 방식 대신 요청을 처리하는 구현을 반환한다. LOCK, WRITE_BEHIND, HOT_USER 는 PointService 가 직접 처리하므로 null 을 반환한다.
+     */
+    public PointCommitter committer() {
+        return switch (mode) {
+            case BATCH -> pointBatchCommitter;
+            case OPTIMISTIC -> optimisticPointCommitter;
+            case MAILBOX -> pointMailboxCommitter;
+            case LOCK, WRITE_BEHIND, HOT_USER -> null;
+        };
+    }
+
+    public PointWriteBehindQueue writeBehindQueue() {
+        return pointWriteBehindQueue;
+    }
+
+    public PointBatchCommitter batchCommitter() {
+        return pointBatchCommitter;
+    }
+
+    public OptimisticPointCommitter optimisticCommitter() {
+        return optimisticPointCommitter;
+    }
+
+    public PointHotUserDetector hotUserDetector() {
+        return pointHotUserDetector;
+    }
+}
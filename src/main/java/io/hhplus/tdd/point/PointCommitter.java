@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 락 방식 대신 충전/사용을 반영하는 처리 방식
+ * - 도메인 규칙 위반은 IllegalArgumentException, 일시적인 처리 불가는 PointUnavailableException 으로 전달한다.
+ */
+public interface PointCommitter {
+
+    UserPoint commit(long userId, long amount, TransactionType type);
+}
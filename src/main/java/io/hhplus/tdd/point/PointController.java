@@ -2,9 +2,17 @@ package io.hhplus.tdd.point;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
@@ -12,9 +20,21 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final PointHistoryExporter pointHistoryExporter;
+    private final PointBulkExecutor pointBulkExecutor;
+    private final PointLookupExecutor pointLookupExecutor;
+    private final PointIdempotencyCache pointIdempotencyCache;
+    private final PointAsyncService pointAsyncService;
+    private final PointClusterRouter pointClusterRouter;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointHistoryExporter pointHistoryExporter, PointBulkExecutor pointBulkExecutor, PointLookupExecutor pointLookupExecutor, PointIdempotencyCache pointIdempotencyCache, PointAsyncService pointAsyncService, PointClusterRouter pointClusterRouter) {
         this.pointService = pointService;
+        this.pointHistoryExporter = pointHistoryExporter;
+        this.pointBulkExecutor = pointBulkExecutor;
+        this.pointLookupExecutor = pointLookupExecutor;
+        this.pointIdempotencyCache = pointIdempotencyCache;
+        this.pointAsyncService = pointAsyncService;
+        this.pointClusterRouter = pointClusterRouter;
     }
 
     /**
@@ -27,6 +47,20 @@ public class PointController {
         return pointService.getUserPointById(id);
     }
 
+    /**
+     * 여러 유저의 포인트를 동시에 조회하고 유저 아이디별 유저 포인트를 반환한다.
+     * 클러스터 모드에서는 이 노드가 담당하는 유저만 요청할 수 있다.
+     */
+    @PostMapping("batch-get")
+    public Map<Long, UserPoint> points(
+            @RequestBody List<Long> ids
+    ) {
+        if (ids != null) {
+            pointClusterRouter.requireLocal(ids);
+        }
+        return pointLookupExecutor.getUserPoints(ids);
+    }
+
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
@@ -37,25 +71,159 @@ public class PointController {
         return pointService.getPointHistoriesByUserId(id);
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기반 페이지 단위로 조회한다.
+     */
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable("id") long id,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "from", required = false) Long from,
+            @RequestParam(value = "to", required = false) Long to,
+            @RequestParam(value = "type", required = false) TransactionType type
+    ) {
+        PointHistoryQuery query = new PointHistoryQuery(PointHistoryCursor.decode(cursor), from, to, type, limit);
+        return pointService.getPointHistoryPage(id, query);
+    }
+
+    /**
+     * 특정 유저의 타입별 충전/이용 건수와 금액 합계, 마지막 활동 시간, 최근 일별 요약을 조회한다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable("id") long id
+    ) {
+        return pointService.getPointSummary(id);
+    }
+
+    /**
+     * 특정 유저의 요약을 포인트 내역으로 다시 계산하고, 기존 요약과 일치했는지 함께 반환한다.
+     */
+    @PostMapping("{id}/summary/rebuild")
+    public PointSummaryRebuild rebuildSummary(
+            @PathVariable("id") long id
+    ) {
+        return pointService.rebuildPointSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON 스트림으로 내보낸다.
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable("id") long id
+    ) {
+        return exportHistories(List.of(id));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 유저 아이디 순서대로 NDJSON 스트림으로 내보낸다.
+     * 클러스터 모드에서는 이 노드가 담당하는 유저만 요청할 수 있다.
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistories(
+            @RequestParam("userIds") List<Long> userIds
+    ) {
+        Set<Long> distinctUserIds = new LinkedHashSet<>(userIds);
+        if (distinctUserIds.isEmpty()) {
+            throw new IllegalArgumentException("내보낼 유저 아이디는 1개 이상이어야 합니다.");
+        }
+        if (distinctUserIds.stream().anyMatch(userId -> userId == null || userId < 0)) {
+            throw new IllegalArgumentException("유저 아이디 값은 0 이상이어야 합니다.");
+        }
+        pointClusterRouter.requireLocal(distinctUserIds);
+
+        StreamingResponseBody body = out -> pointHistoryExporter.export(distinctUserIds, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * 멱등 키가 활성화되어 있고 Idempotency-Key 헤더가 있으면 같은 키의 재요청에 첫 요청의 결과를 그대로 반환한다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody long amount
     ) {
-        return pointService.charge(id, amount);
+        return pointIdempotencyCache.execute(idempotencyKey, id, TransactionType.CHARGE, amount, () -> pointService.charge(id, amount));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * 멱등 키가 활성화되어 있고 Idempotency-Key 헤더가 있으면 같은 키의 재요청에 첫 요청의 결과를 그대로 반환한다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody long amount
     ) {
-        return pointService.use(id, amount);
+        return pointIdempotencyCache.execute(idempotencyKey, id, TransactionType.USE, amount, () -> pointService.use(id, amount));
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 조회한다. 요청 스레드는 조회가 끝나기를 기다리지 않고 반환된다.
+     */
+    @GetMapping("async/{id}")
+    public CompletableFuture<UserPoint> pointAsync(
+            @PathVariable("id") long id
+    ) {
+        return pointAsyncService.getUserPointById(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 비동기로 조회한다.
+     */
+    @GetMapping("async/{id}/histories")
+    public CompletableFuture<List<PointHistory>> historyAsync(
+            @PathVariable("id") long id
+    ) {
+        return pointAsyncService.getPointHistoriesByUserId(id);
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 충전한다. 같은 유저의 요청은 들어온 순서대로 처리된다.
+     */
+    @PatchMapping("async/{id}/charge")
+    public CompletableFuture<UserPoint> chargeAsync(
+            @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody long amount
+    ) {
+        return pointIdempotencyCache.executeAsync(idempotencyKey, id, TransactionType.CHARGE, amount, () -> pointAsyncService.charge(id, amount));
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 사용한다. 같은 유저의 요청은 들어온 순서대로 처리된다.
+     */
+    @PatchMapping("async/{id}/use")
+    public CompletableFuture<UserPoint> useAsync(
+            @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody long amount
+    ) {
+        return pointIdempotencyCache.executeAsync(idempotencyKey, id, TransactionType.USE, amount, () -> pointAsyncService.use(id, amount));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 작업을 한 번에 처리하고 요청 순서대로 작업별 결과를 반환한다.
+     * 클러스터 모드에서는 이 노드가 담당하는 유저의 작업만 요청할 수 있다.
+     */
+    @PostMapping("bulk")
+    public List<PointOperationResult> bulk(
+            @RequestBody List<PointOperation> operations
+    ) {
+        if (operations != null) {
+            pointClusterRouter.requireLocal(operations.stream()
+                    .filter(Objects::nonNull)
+                    .map(PointOperation::userId)
+                    .toList());
+        }
+        return pointBulkExecutor.execute(operations);
     }
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 하루 동안의 트랜잭션 타입별 요약
+ */
+public record PointDailySummary(
+        LocalDate date,
+        Map<TransactionType, PointTypeSummary> totals
+) {
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 포인트 내역 페이지 커서
+ * - 클라이언트에는 마지막으로 전달한 내역 아이디를 감싼 불투명한 문자열로 전달한다.
+ */
+public final class PointHistoryCursor {
+
+    private static final String PREFIX = "ph1:";
+
+    private PointHistoryCursor() {
+    }
+
+    public static String encode(long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static Long decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            long lastId = Long.parseLong(raw.substring(PREFIX.length()));
+            if (lastId < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
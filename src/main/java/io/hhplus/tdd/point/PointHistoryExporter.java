@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 포인트 내역을 NDJSON(한 줄에 내역 하나) 형식으로 출력 스트림에 바로 기록한다.
+ * - 내역 인덱스가 켜져 있으면 유저별 내역을 커서 기반 페이지 단위로 읽어 기록하므로 메모리 사용량은 페이지 크기로 고정된다.
+ * - 인덱스가 꺼져 있으면 페이지마다 테이블 전체를 다시 걸러 내역 수의 제곱에 비례하므로, 유저별 내역을 한 번만 읽어 페이지 크기씩 나눠 기록한다.
+ * - 클라이언트 연결이 끊기면 기록 중 IOException 이 발생하고 내보내기를 중단한다.
+ */
+@Component
+public class PointHistoryExporter {
+
+    static final int CHUNK_SIZE = 500;
+    private static final byte NEW_LINE = '\n';
+
+    private final PointService pointService;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final ObjectMapper objectMapper;
+
+    public PointHistoryExporter(PointService pointService, PointHistoryIndex pointHistoryIndex, ObjectMapper objectMapper) {
+        this.pointService = pointService;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(Collection<Long> userIds, OutputStream out) throws IOException {
+        for (long userId : userIds) {
+            exportUser(userId, out);
+        }
+        out.flush();
+    }
+
+    private void exportUser(long userId, OutputStream out) throws IOException {
+
+        if (!pointHistoryIndex.isEnabled()) {
+            List<PointHistory> histories = pointService.getPointHistoriesByUserId(userId);
+            for (int from = 0; from < histories.size(); from += CHUNK_SIZE) {
+                writeChunk(histories.subList(from, Math.min(from + CHUNK_SIZE, histories.size())), out);
+            }
+            return;
+        }
+
+        Long afterId = null;
+        do {
+            PointHistoryPage page = pointService.getPointHistoryPage(userId, new PointHistoryQuery(afterId, null, null, null, CHUNK_SIZE));
+            writeChunk(page.histories(), out);
+            afterId = PointHistoryCursor.decode(page.nextCursor());
+        } while (afterId != null);
+    }
+
+    private void writeChunk(List<PointHistory> histories, OutputStream out) throws IOException {
+
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("포인트 내역 내보내기가 중단되었습니다.");
+        }
+
+        for (PointHistory pointHistory : histories) {
+            out.write(objectMapper.writeValueAsBytes(pointHistory));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+    }
+}
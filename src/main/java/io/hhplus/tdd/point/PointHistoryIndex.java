@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 아이디 기준 포인트 내역 인덱스
+ * - 유저별로 포인트 내역 아이디 순서의 추가 전용 목록을 유지해 조회 비용이 해당 유저의 내역 수에만 비례한다.
+ * - 처음 조회되는 유저는 테이블의 공개 API 로 한 번 적재하고, 이후에는 record 로 전달된 내역만 이어 붙인다.
+ * - 같은 유저의 내역은 유저 락 혹은 유저별 대기열 안에서 저장되므로 아이디가 증가하는 순서로 전달된다.
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryIndexProperties properties;
+    private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+
+    public PointHistoryIndex(PointHistoryRepository pointHistoryRepository, PointHistoryIndexProperties properties) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 테이블에 저장된 포인트 내역을 인덱스에 반영한다.
+     */
+    public void record(PointHistory pointHistory) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        UserHistories histories = index.computeIfAbsent(pointHistory.userId(), key -> new UserHistories());
+        histories.lock.lock();
+        try {
+            histories.append(pointHistory);
+        } finally {
+            histories.lock.unlock();
+        }
+    }
+
+    public List<PointHistory> findAllByUserId(long userId) {
+
+        UserHistories histories = loadedHistories(userId);
+        histories.lock.lock();
+        try {
+            return List.copyOf(histories.rows);
+        } finally {
+            histories.lock.unlock();
+        }
+    }
+
+    /**
+     * 커서 이후의 내역부터 조건에 맞는 내역을 최대 limit + 1 개까지 반환한다. 마지막 한 개는 다음 페이지 존재 여부 확인용이다.
+     */
+    public List<PointHistory> findPage(long userId, PointHistoryQuery query) {
+
+        UserHistories histories = loadedHistories(userId);
+        histories.lock.lock();
+        try {
+            List<PointHistory> page = new ArrayList<>();
+            int start = query.afterId() == null ? 0 : histories.indexAfter(query.afterId());
+            for (int i = start; i < histories.rows.size() && page.size() <= query.limit(); i++) {
+                PointHistory row = histories.rows.get(i);
+                if (query.matches(row)) {
+                    page.add(row);
+                }
+            }
+            return page;
+        } finally {
+            histories.lock.unlock();
+        }
+    }
+
+    /**
+     * 테이블의 공개 API 로 해당 유저들의 인덱스를 다시 만든다. 테이블에는 전체 유저 목록 조회 API 가 없어 대상 유저를 전달받는다.
+     */
+    public void rebuild(Collection<Long> userIds) {
+        userIds.forEach(this::rebuild);
+    }
+
+    public void rebuild(long userId) {
+
+        UserHistories histories = index.computeIfAbsent(userId, key -> new UserHistories());
+        histories.lock.lock();
+        try {
+            histories.load(pointHistoryRepository.selectAllByUserId(userId));
+        } finally {
+            histories.lock.unlock();
+        }
+    }
+
+    private UserHistories loadedHistories(long userId) {
+
+        UserHistories histories = index.computeIfAbsent(userId, key -> new UserHistories());
+        histories.lock.lock();
+        try {
+            if (!histories.loaded) {
+                histories.load(pointHistoryRepository.selectAllByUserId(userId));
+            }
+        } finally {
+            histories.lock.unlock();
+        }
+        return histories;
+    }
+
+    private static class UserHistories {
+
+        private final List<PointHistory> rows = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean loaded;
+
+        private void append(PointHistory pointHistory) {
+            if (rows.isEmpty() || rows.get(rows.size() - 1).id() < pointHistory.id()) {
+                rows.add(pointHistory);
+            }
+        }
+
+        /**
+         * 아이디가 afterId 보다 큰 첫 번째 내역의 위치를 이분 탐색으로 찾는다.
+         */
+        private int indexAfter(long afterId) {
+
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (rows.get(mid).id() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 적재 전에 record 로 먼저 들어온 내역과 테이블 내역을 아이디 기준으로 합친다.
+         */
+        private void load(List<PointHistory> tableRows) {
+
+            List<PointHistory> merged = new ArrayList<>(tableRows);
+            long lastId = tableRows.isEmpty() ? 0 : tableRows.get(tableRows.size() - 1).id();
+            for (PointHistory row : rows) {
+                if (row.id() > lastId) {
+                    merged.add(row);
+                }
+            }
+            merged.sort(Comparator.comparingLong(PointHistory::id));
+
+            rows.clear();
+            rows.addAll(merged);
+            loaded = true;
+        }
+    }
+}
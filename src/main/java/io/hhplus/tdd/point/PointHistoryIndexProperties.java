@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저별 포인트 내역 인덱스 설정
+ * - enabled : 활성화 시 포인트 내역 조회를 전체 테이블 대신 유저별 인덱스에서 처리
+ */
+@ConfigurationProperties(prefix = "point.history-index")
+public record PointHistoryIndexProperties(
+        @DefaultValue("true") boolean enabled
+) {
+
+    public static PointHistoryIndexProperties disabled() {
+        return new PointHistoryIndexProperties(false);
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지
+ * - nextCursor : 다음 페이지 조회에 사용할 커서, 마지막 페이지면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        String nextCursor
+) {
+
+    public static PointHistoryPage of(List<PointHistory> rows, int limit) {
+
+        if (rows.size() <= limit) {
+            return new PointHistoryPage(List.copyOf(rows), null);
+        }
+
+        List<PointHistory> histories = List.copyOf(rows.subList(0, limit));
+        return new PointHistoryPage(histories, PointHistoryCursor.encode(histories.get(limit - 1).id()));
+    }
+}
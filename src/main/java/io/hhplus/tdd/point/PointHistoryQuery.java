@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ * - afterId : 해당 아이디 이후의 내역부터 조회, 없으면 처음부터 조회
+ * - from, to : updateMillis 기준 조회 범위(양 끝 포함), 없으면 제한하지 않음
+ * - type : 트랜잭션 타입, 없으면 전체 조회
+ * - limit : 한 페이지의 최대 내역 수
+ */
+public record PointHistoryQuery(
+        Long afterId,
+        Long from,
+        Long to,
+        TransactionType type,
+        int limit
+) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public PointHistoryQuery {
+
+        if (limit <= 0 || MAX_LIMIT < limit) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하이어야 합니다.");
+        }
+        if (from != null && to != null && to < from) {
+            throw new IllegalArgumentException("조회 종료 시각은 시작 시각보다 빠를 수 없습니다.");
+        }
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return (afterId == null || afterId < pointHistory.id())
+                && (from == null || from <= pointHistory.updateMillis())
+                && (to == null || pointHistory.updateMillis() <= to)
+                && (type == null || type == pointHistory.type());
+    }
+}
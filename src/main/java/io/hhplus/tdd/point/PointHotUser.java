@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청이 몰려 묶음 처리 중인 유저
+ * - queueDepth : 현재 처리 중이거나 대기 중인 요청 수
+ * - lastLockWaitMillis : 유저 락 방식으로 처리한 마지막 요청의 락 대기 시간
+ * - hotSinceMillis : 묶음 처리로 전환된 시간
+ */
+public record PointHotUser(
+        long userId,
+        int queueDepth,
+        long lastLockWaitMillis,
+        long hotSinceMillis
+) {
+}
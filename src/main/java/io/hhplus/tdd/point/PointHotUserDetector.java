@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유저별 처리 중인 요청 수와 락 대기 시간으로 요청이 몰린 유저를 감지한다.
+ * - 처리 중인 요청 수가 queueDepthThreshold 이상이거나 락 대기 시간이 lockWaitThresholdMillis 이상이면 요청이 몰린 유저로 전환한다.
+ * - 기준을 넘은 마지막 시점부터 coolDownMillis 동안 다시 넘지 않으면 원래 방식으로 되돌린다.
+ * - 처리 중인 요청이 있거나 요청이 몰린 상태인 유저만 기억하므로, 메모리는 동시에 요청 중인 유저 수만큼만 사용한다.
+ */
+@Component
+public class PointHotUserDetector {
+
+    private final PointHotUserProperties properties;
+    private final long lockWaitThresholdNanos;
+    private final long coolDownNanos;
+    private final ConcurrentHashMap<Long, UserLoad> loads = new ConcurrentHashMap<>();
+
+    public PointHotUserDetector(PointHotUserProperties properties) {
+        this.properties = properties;
+        this.lockWaitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.lockWaitThresholdMillis());
+        this.coolDownNanos = TimeUnit.MILLISECONDS.toNanos(properties.coolDownMillis());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 요청 시작을 기록하고, 이 요청을 묶음 처리해야 하는지 반환한다.
+     * 반환값과 관계없이 요청이 끝나면 exit 를 호출해야 한다.
+     */
+    public boolean enter(long userId) {
+
+        UserLoad load = loads.compute(userId, (key, existing) -> {
+            UserLoad target = existing != null ? existing : new UserLoad(key, coolDownNanos);
+            target.queueDepth.incrementAndGet();
+            return target;
+        });
+
+        long now = System.nanoTime();
+        if (load.queueDepth.get() >= properties.queueDepthThreshold()) {
+            load.overloaded(now, coolDownNanos);
+        }
+        return load.isHot(now, coolDownNanos);
+    }
+
+    public void exit(long userId) {
+        loads.computeIfPresent(userId, (key, load) ->
+                load.queueDepth.decrementAndGet() == 0 && !load.isHot(System.nanoTime(), coolDownNanos) ? null : load);
+    }
+
+    /**
+     * 유저 락을 기다린 시간을 기록한다. 처리 중인 요청이 기록되지 않은 유저는 무시한다.
+     */
+    public void recordLockWait(long userId, long waitNanos) {
+
+        UserLoad load = loads.get(userId);
+        if (load == null) {
+            return;
+        }
+        load.lastLockWaitNanos = waitNanos;
+        if (waitNanos >= lockWaitThresholdNanos) {
+            load.overloaded(System.nanoTime(), coolDownNanos);
+        }
+    }
+
+    /**
+     * 현재 요청이 몰린 유저를 처리 중인 요청 수가 많은 순서로 반환한다.
+     * 요청이 끝나고 유지 시간이 지난 유저는 이때 함께 정리한다.
+     */
+    public List<PointHotUser> hotUsers() {
+
+        List<PointHotUser> hotUsers = new ArrayList<>();
+        for (Long userId : loads.keySet()) {
+            loads.computeIfPresent(userId, (key, load) -> {
+                if (load.isHot(System.nanoTime(), coolDownNanos)) {
+                    hotUsers.add(load.toHotUser());
+                    return load;
+                }
+                return load.queueDepth.get() == 0 ? null : load;
+            });
+        }
+        hotUsers.sort(Comparator.comparingInt(PointHotUser::queueDepth).reversed().thenComparingLong(PointHotUser::userId));
+        return hotUsers;
+    }
+
+    private static class UserLoad {
+
+        private final long userId;
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private volatile long lastOverloadedAt;
+        private volatile long lastLockWaitNanos;
+        private volatile long hotSinceMillis;
+
+        private UserLoad(long userId, long coolDownNanos) {
+            this.userId = userId;
+            this.lastOverloadedAt = System.nanoTime() - coolDownNanos - 1;
+        }
+
+        private boolean isHot(long now, long coolDownNanos) {
+            return now - lastOverloadedAt <= coolDownNanos;
+        }
+
+        private void overloaded(long now, long coolDownNanos) {
+            if (!isHot(now, coolDownNanos)) {
+                hotSinceMillis = System.currentTimeMillis();
+            }
+            lastOverloadedAt = now;
+        }
+
+        private PointHotUser toHotUser() {
+            return new PointHotUser(userId, queueDepth.get(), TimeUnit.NANOSECONDS.toMillis(lastLockWaitNanos), hotSinceMillis);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청이 몰린 유저 감지 설정
+ * - enabled : 활성화 시 유저별 처리 중인 요청 수와 락 대기 시간을 추적해, 요청이 몰린 유저만 묶음 처리로 전환
+ * - queueDepthThreshold : 같은 유저의 처리 중인 요청 수가 이 값 이상이면 요청이 몰린 유저로 판단
+ * - lockWaitThresholdMillis : 유저 락을 기다린 시간이 이 값 이상이면 요청이 몰린 유저로 판단
+ * - coolDownMillis : 마지막으로 기준을 넘은 뒤 이 시간 동안 기준을 넘지 않으면 유저 락 방식으로 되돌림
+ */
+@ConfigurationProperties(prefix = "point.hot-user")
+public record PointHotUserProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8") int queueDepthThreshold,
+        @DefaultValue("10") long lockWaitThresholdMillis,
+        @DefaultValue("1000") long coolDownMillis
+) {
+
+    public PointHotUserProperties {
+
+        if (queueDepthThreshold <= 1) {
+            throw new IllegalArgumentException("처리 중인 요청 수 기준은 1보다 커야 합니다.");
+        }
+        if (lockWaitThresholdMillis <= 0) {
+            throw new IllegalArgumentException("락 대기 시간 기준은 0보다 커야 합니다.");
+        }
+        if (coolDownMillis <= 0) {
+            throw new IllegalArgumentException("묶음 처리 유지 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointHotUserProperties disabled() {
+        return new PointHotUserProperties(false, 8, 10L, 1000L);
+    }
+}
@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 멱등 키 캐시
+ * - 유저 아이디와 Idempotency-Key 헤더 값으로 첫 요청의 결과를 기억하고, 같은 키의 재요청에는 서비스와 유저 락을 거치지 않고 그 결과를 반환한다.
+ * - 첫 요청이 처리 중일 때 들어온 같은 키의 요청은 유저 락 대기열에 서지 않고 첫 요청의 결과를 기다린다.
+ * - 첫 요청이 실패하면 키를 지워 재요청이 다시 처리되도록 하고, 기다리던 요청에는 같은 예외를 던진다.
+ * - 같은 키로 다른 타입이나 금액을 요청하면 IllegalArgumentException 을 던진다.
+ * - 키가 maxSize 개 차면 가장 먼저 저장된 완료 키부터 제거하고, 모든 키가 처리 중이면 새 키를 PointUnavailableException 으로 거절해 크기를 넘지 않는다.
+ * - 유지 시간은 첫 요청이 완료된 시점부터 세며, 지난 키는 조회 시점에 제거한다.
+ */
+@Component
+public class PointIdempotencyCache {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final PointIdempotencyProperties properties;
+    private final Map<CacheKey, CacheEntry> entries;
+    private final ReentrantLock entriesLock = new ReentrantLock();
+
+    public PointIdempotencyCache(PointIdempotencyProperties properties) {
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 멱등 키가 없거나 기능이 비활성화된 경우 operation 을 그대로 실행한다.
+     */
+    public UserPoint execute(String idempotencyKey, long userId, TransactionType type, long amount, Supplier<UserPoint> operation) {
+
+        if (!isEnabled() || idempotencyKey == null) {
+            return operation.get();
+        }
+
+        CacheKey key = cacheKey(userId, idempotencyKey);
+        CacheEntry created = newEntry(type, amount);
+        CacheEntry existing = reserve(key, created);
+        if (existing == null) {
+            return run(key, created, operation);
+        }
+        verify(existing, type, amount);
+        return await(existing);
+    }
+
+    /**
+     * execute 의 비동기 버전으로, 같은 키의 재요청은 첫 요청의 결과가 완료될 때 함께 완료된다.
+     */
+    public CompletableFuture<UserPoint> executeAsync(String idempotencyKey, long userId, TransactionType type, long amount, Supplier<CompletableFuture<UserPoint>> operation) {
+
+        if (!isEnabled() || idempotencyKey == null) {
+            return operation.get();
+        }
+
+        CacheKey key = cacheKey(userId, idempotencyKey);
+        CacheEntry created = newEntry(type, amount);
+        CacheEntry existing = reserve(key, created);
+        if (existing == null) {
+            CompletableFuture<UserPoint> started;
+            try {
+                started = operation.get();
+            } catch (RuntimeException e) {
+                fail(key, created, e);
+                throw e;
+            }
+            started.whenComplete((userPoint, e) -> {
+                if (e != null) {
+                    fail(key, created, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                } else {
+                    created.complete(userPoint, properties.ttlMillis());
+                }
+            });
+            return created.result.copy();
+        }
+        verify(existing, type, amount);
+        return existing.result.copy();
+    }
+
+    int size() {
+        entriesLock.lock();
+        try {
+            return entries.size();
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private CacheKey cacheKey(long userId, String idempotencyKey) {
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등 키는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        return new CacheKey(userId, idempotencyKey);
+    }
+
+    private static CacheEntry newEntry(TransactionType type, long amount) {
+        return new CacheEntry(type, amount);
+    }
+
+    /**
+     * 키가 없거나 유지 시간이 지났으면 created 를 저장하고 null 을, 아니면 저장된 항목을 반환한다.
+     * 자리가 없고 모든 키가 처리 중이면 저장하지 않고 PointUnavailableException 을 던진다.
+     */
+    private CacheEntry reserve(CacheKey key, CacheEntry created) {
+        entriesLock.lock();
+        try {
+            CacheEntry existing = entries.get(key);
+            if (existing != null && existing.isExpired()) {
+                entries.remove(key);
+                existing = null;
+            }
+            if (existing != null) {
+                return existing;
+            }
+            if (entries.size() >= properties.maxSize() && !evictCompleted()) {
+                throw new PointUnavailableException("처리 중인 멱등 키가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            entries.put(key, created);
+            return null;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    /**
+     * entriesLock 을 잡은 상태에서 호출한다. 처리 중인 키는 건너뛰고 가장 먼저 저장된 완료 키 하나를 제거한다.
+     */
+    private boolean evictCompleted() {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void verify(CacheEntry existing, TransactionType type, long amount) {
+        if (existing.type != type || existing.amount != amount) {
+            throw new IllegalArgumentException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private UserPoint run(CacheKey key, CacheEntry entry, Supplier<UserPoint> operation) {
+        try {
+            UserPoint userPoint = operation.get();
+            entry.complete(userPoint, properties.ttlMillis());
+            return userPoint;
+        } catch (RuntimeException e) {
+            fail(key, entry, e);
+            throw e;
+        }
+    }
+
+    private void fail(CacheKey key, CacheEntry entry, Throwable cause) {
+        entriesLock.lock();
+        try {
+            entries.remove(key, entry);
+        } finally {
+            entriesLock.unlock();
+        }
+        entry.result.completeExceptionally(cause);
+    }
+
+    private static UserPoint await(CacheEntry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CacheKey(long userId, String idempotencyKey) {
+    }
+
+    /**
+     * expireAt 은 완료 시점에 정해지므로, 완료 전에는 만료되지 않는다.
+     */
+    private static final class CacheEntry {
+
+        private final TransactionType type;
+        private final long amount;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private volatile long expireAt;
+
+        private CacheEntry(TransactionType type, long amount) {
+            this.type = type;
+            this.amount = amount;
+        }
+
+        private void complete(UserPoint userPoint, long ttlMillis) {
+            expireAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+            result.complete(userPoint);
+        }
+
+        private boolean isExpired() {
+            return result.isDone() && expireAt - System.nanoTime() <= 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 멱등 키 설정
+ * - enabled : 활성화 시 Idempotency-Key 헤더가 있는 충전/사용 요청의 결과를 기억해 같은 키의 재요청에 그대로 반환
+ * - maxSize : 기억하는 최대 키 수, 가득 차면 가장 먼저 저장된 완료 키부터 제거하고 모두 처리 중이면 새 키를 거절
+ * - ttlMillis : 첫 요청이 완료된 뒤 키를 기억하는 시간
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") int maxSize,
+        @DefaultValue("3600000") long ttlMillis
+) {
+
+    public PointIdempotencyProperties {
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("멱등 키 최대 수는 0보다 커야 합니다.");
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("멱등 키 유지 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointIdempotencyProperties disabled() {
+        return new PointIdempotencyProperties(false, 100000, 3600000L);
+    }
+}
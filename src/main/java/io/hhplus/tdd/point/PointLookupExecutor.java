@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 유저의 포인트를 동시에 조회한다.
+ * - 중복된 아이디는 한 번만 조회하고, 각 조회는 가상 스레드에서 진행해 전체 지연이 가장 느린 조회 하나에 가깝도록 한다.
+ * - 테이블에 몰리는 동시 조회 수는 maxConcurrency 로 제한한다.
+ */
+@Component
+public class PointLookupExecutor {
+
+    private final PointService pointService;
+    private final PointLookupProperties properties;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public PointLookupExecutor(PointService pointService, PointLookupProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrency());
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * 요청한 유저 아이디 순서(중복 제거)대로 유저 포인트를 담아 반환한다.
+     */
+    public Map<Long, UserPoint> getUserPoints(List<Long> userIds) {
+
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 유저 아이디는 1개 이상이어야 합니다.");
+        }
+        if (userIds.size() > properties.maxIds()) {
+            throw new IllegalArgumentException("조회할 유저 아이디는 " + properties.maxIds() + "개 이하여야 합니다.");
+        }
+        Set<Long> distinctUserIds = new LinkedHashSet<>(userIds);
+        if (distinctUserIds.stream().anyMatch(userId -> userId == null || userId < 0)) {
+            throw new IllegalArgumentException("유저 아이디 값은 0 이상이어야 합니다.");
+        }
+
+        if (distinctUserIds.size() == 1) {
+            long userId = distinctUserIds.iterator().next();
+            return Map.of(userId, pointService.getUserPointById(userId));
+        }
+
+        Map<Long, CompletableFuture<UserPoint>> futures = new LinkedHashMap<>();
+        for (long userId : distinctUserIds) {
+            futures.put(userId, CompletableFuture.supplyAsync(() -> lookup(userId), executor));
+        }
+
+        Map<Long, UserPoint> userPoints = new LinkedHashMap<>();
+        try {
+            futures.forEach((userId, future) -> userPoints.put(userId, future.join()));
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return userPoints;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private UserPoint lookup(long userId) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PointUnavailableException("포인트 조회 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        try {
+            return pointService.getUserPointById(userId);
+        } finally {
+            permits.release();
+        }
+    }
+}
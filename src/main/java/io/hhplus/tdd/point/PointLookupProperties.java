@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 여러 유저 포인트 동시 조회 설정
+ * - maxIds : 한 요청에 담을 수 있는 최대 유저 아이디 수 (중복 제거 전 기준)
+ * - maxConcurrency : 애플리케이션 전체에서 동시에 진행할 수 있는 조회 수
+ */
+@ConfigurationProperties(prefix = "point.lookup")
+public record PointLookupProperties(
+        @DefaultValue("1000") int maxIds,
+        @DefaultValue("256") int maxConcurrency
+) {
+
+    public PointLookupProperties {
+
+        if (maxIds <= 0) {
+            throw new IllegalArgumentException("조회 유저 아이디 최대 수는 0보다 커야 합니다.");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("동시 조회 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointLookupProperties defaults() {
+        return new PointLookupProperties(1000, 256);
+    }
+}
@@ -0,0 +1,249 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 메일박스로 충전/사용을 처리하는 엔진
+ * - 요청은 유저별 메일박스에 쌓이고, 고정된 수의 워커 중 하나가 메일박스를 맡아 도착 순서대로 처리한다.
+ *   한 메일박스는 한 번에 한 워커만 처리하므로 같은 유저의 요청은 유저 락 없이 차례로 반영된다.
+ * - 워커는 한 메일박스에서 maxDrain 개까지 처리한 뒤 다른 메일박스에 양보해, 요청이 몰린 유저가 워커를 독점하지 않는다.
+ * - 메일박스는 처리 중인 동안만 잔고를 들고 있다가 비면 제거되므로, 메모리는 요청이 쌓인 유저 수만큼만 사용한다.
+ * - 도메인 규칙과 저장 순서(로그 기록, 유저 포인트 저장, 포인트 내역 저장)는 유저 락 방식과 같다.
+ *   캐시가 켜져 있으면 캐시 갱신만 유저 락 안에서 해, 락을 잡고 적재하는 조회가 이전 값으로 덮어쓰지 않도록 한다.
+ * - 종료된 뒤 들어온 요청과 워커가 더 이상 받지 않아 남은 요청은 PointUnavailableException 으로 실패한다.
+ */
+@Component
+public class PointMailboxCommitter implements PointCommitter {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointMailboxProperties properties;
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ExecutorService workers;
+    private volatile boolean closed;
+
+    public PointMailboxCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserLockManager userLockManager, UserPointCache userPointCache, PointHistoryIndex pointHistoryIndex, PointSummaryIndex pointSummaryIndex, PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog, PointMailboxProperties properties) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryIndex = pointSummaryIndex;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.properties = properties;
+        this.workers = properties.enabled() ? Executors.newFixedThreadPool(properties.workers()) : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public UserPoint commit(long userId, long amount, TransactionType type) {
+
+        if (closed) {
+            throw new PointUnavailableException("메일박스 처리가 종료되었습니다.");
+        }
+        if (pendingCount.incrementAndGet() > properties.maxPending()) {
+            pendingCount.decrementAndGet();
+            throw new PointUnavailableException("메일박스 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        PendingOperation operation = new PendingOperation(amount, type);
+        Mailbox mailbox = mailboxes.compute(userId, (key, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(key);
+            target.operations.add(operation);
+            return target;
+        });
+        schedule(mailbox);
+
+        return operation.join();
+    }
+
+    /**
+     * 대기 중인 요청이 있는 유저 수를 반환한다.
+     */
+    public int activeMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        if (workers == null) {
+            return;
+        }
+        closed = true;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            try {
+                workers.execute(() -> drain(mailbox));
+            } catch (RejectedExecutionException e) {
+                reject(mailbox);
+            }
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+
+        PendingOperation operation;
+        for (int drained = 0; drained < properties.maxDrain() && (operation = mailbox.operations.poll()) != null; drained++) {
+            apply(mailbox, operation);
+            pendingCount.decrementAndGet();
+        }
+        release(mailbox);
+    }
+
+    /**
+     * 종료 후 워커가 받지 않는 메일박스의 요청을 PointUnavailableException 으로 실패 처리한다.
+     */
+    private void reject(Mailbox mailbox) {
+
+        PendingOperation operation;
+        while ((operation = mailbox.operations.poll()) != null) {
+            operation.result.completeExceptionally(new PointUnavailableException("메일박스 처리가 종료되었습니다."));
+            pendingCount.decrementAndGet();
+        }
+        release(mailbox);
+    }
+
+    /**
+     * 메일박스를 다른 워커가 맡을 수 있게 놓아주고, 그사이 들어온 요청이 있으면 다시 맡기고 없으면 제거한다.
+     */
+    private void release(Mailbox mailbox) {
+
+        mailbox.scheduled.set(false);
+        if (!mailbox.operations.isEmpty()) {
+            schedule(mailbox);
+            return;
+        }
+        mailboxes.computeIfPresent(mailbox.userId, (key, existing) ->
+                existing == mailbox && mailbox.operations.isEmpty() && !mailbox.scheduled.get() ? null : existing);
+    }
+
+    /**
+     * 메일박스에서 기다린 시간은 point.lock.wait, 처리 시간은 point.lock.hold 로 기록한다.
+     */
+    private void apply(Mailbox mailbox, PendingOperation operation) {
+
+        long userId = mailbox.userId;
+        long startedAt = System.nanoTime();
+        pointMetrics.recordLockWait(operation.type, startedAt - operation.enqueuedAt);
+        try {
+            if (mailbox.userPoint == null) {
+                mailbox.userPoint = userPointCache.isEnabled()
+                        ? userPointCache.get(userId, this::selectById)
+                        : selectById(userId);
+            }
+            UserPoint userPoint = mailbox.userPoint.apply(operation.type, operation.amount);
+            if (pointWriteAheadLog.isEnabled()) {
+                pointWriteAheadLog.append(userId, operation.type, operation.amount, userPoint.updateMillis());
+            }
+
+            long tableStartedAt = System.nanoTime();
+            UserPoint saved = userPointRepository.insertOrUpdate(userId, userPoint.point());
+            pointMetrics.recordInsertOrUpdate(System.nanoTime() - tableStartedAt);
+            mailbox.userPoint = saved;
+            if (userPointCache.isEnabled()) {
+                ReentrantLock lock = userLockManager.getLock(userId);
+                lock.lock();
+                try {
+                    userPointCache.put(saved);
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            tableStartedAt = System.nanoTime();
+            PointHistory pointHistory = pointHistoryRepository.insert(userId, operation.amount, operation.type, saved.updateMillis());
+            pointMetrics.recordHistoryInsert(System.nanoTime() - tableStartedAt);
+            pointHistoryIndex.record(pointHistory);
+            pointSummaryIndex.record(pointHistory);
+            operation.result.complete(saved);
+        } catch (IllegalArgumentException e) {
+            operation.result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            mailbox.userPoint = null;
+            operation.result.completeExceptionally(e);
+        } finally {
+            pointMetrics.recordLockHold(operation.type, System.nanoTime() - startedAt);
+        }
+    }
+
+    private UserPoint selectById(long userId) {
+        long startedAt = System.nanoTime();
+        try {
+            return userPointRepository.selectById(userId);
+        } finally {
+            pointMetrics.recordSelectById(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * userPoint 는 메일박스를 맡은 워커만 읽고 쓴다.
+     * 다음 워커는 scheduled 를 통해 이전 워커가 남긴 값을 본다.
+     */
+    private static class Mailbox {
+
+        private final long userId;
+        private final Queue<PendingOperation> operations = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private UserPoint userPoint;
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private static class PendingOperation {
+
+        private final long amount;
+        private final TransactionType type;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+
+        private PendingOperation(long amount, TransactionType type) {
+            this.amount = amount;
+            this.type = type;
+        }
+
+        private UserPoint join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저별 메일박스 처리 설정
+ * - enabled : 활성화 시 충전/사용 요청을 유저별 메일박스에 넣고 고정된 수의 워커가 유저 락 없이 차례로 처리
+ * - workers : 메일박스를 처리하는 워커 스레드 수
+ * - maxPending : 처리 중이거나 대기 중인 최대 요청 수, 초과 시 요청을 거절
+ * - maxDrain : 워커가 한 메일박스에서 연속으로 처리하는 최대 요청 수, 초과 시 다른 메일박스에 워커를 양보
+ */
+@ConfigurationProperties(prefix = "point.mailbox")
+public record PointMailboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int workers,
+        @DefaultValue("10000") int maxPending,
+        @DefaultValue("64") int maxDrain
+) {
+
+    public PointMailboxProperties {
+
+        if (workers <= 0) {
+            throw new IllegalArgumentException("메일박스 워커 수는 0보다 커야 합니다.");
+        }
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("메일박스 대기 요청 최대 수는 0보다 커야 합니다.");
+        }
+        if (maxDrain <= 0) {
+            throw new IllegalArgumentException("메일박스 연속 처리 최대 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointMailboxProperties disabled() {
+        return new PointMailboxProperties(false, 4, 10000, 64);
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 충전/사용 단계별 지표
+ * - point.lock.wait, point.lock.hold : 유저 락 대기/보유 시간
+ *   메일박스 처리는 메일박스에서 기다린 시간/처리 시간, 낙관적 처리는 CAS 가 성공하기까지 걸린 시간/유저 락으로 반영한 시간을 기록한다.
+ * - point.table.call : 테이블 호출 시간 (operation = selectById, insertOrUpdate, historyInsert)
+ * - point.commit : 처리 결과별 건수 (outcome = PointOutcome)
+ * - point.wal.failures : 이미 반영된 변경을 로그에 남기지 못한 건수 (낙관적 처리)
+ * - point.persist.failures : 메모리에 반영된 변경을 테이블에 저장하지 못해 다시 시도한 건수 (낙관적 처리)
+ * - 모든 지표는 생성 시점에 등록해 두고 배열로 찾아 기록하므로 요청 처리 중에는 객체를 할당하지 않는다.
+ */
+@Component
+public class PointMetrics {
+
+    private final Timer[] lockWaitTimers;
+    private final Timer[] lockHoldTimers;
+    private final Timer selectByIdTimer;
+    private final Timer insertOrUpdateTimer;
+    private final Timer historyInsertTimer;
+    private final Counter[][] commitCounters;
+    private final Counter walFailureCounter;
+    private final Counter persistFailureCounter;
+
+    public PointMetrics(MeterRegistry meterRegistry, UserPointCache userPointCache, UserLockManager userLockManager) {
+
+        TransactionType[] types = TransactionType.values();
+        PointOutcome[] outcomes = PointOutcome.values();
+
+        this.lockWaitTimers = new Timer[types.length];
+        this.lockHoldTimers = new Timer[types.length];
+        this.commitCounters = new Counter[types.length][outcomes.length];
+        for (TransactionType type : types) {
+            lockWaitTimers[type.ordinal()] = Timer.builder("point.lock.wait")
+                    .description("유저 락을 얻기까지 기다린 시간")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            lockHoldTimers[type.ordinal()] = Timer.builder("point.lock.hold")
+                    .description("유저 락을 잡고 있던 시간")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            for (PointOutcome outcome : outcomes) {
+                commitCounters[type.ordinal()][outcome.ordinal()] = Counter.builder("point.commit")
+                        .description("포인트 충전/사용 처리 결과별 건수")
+                        .tag("type", type.name())
+                        .tag("outcome", outcome.name())
+                        .register(meterRegistry);
+            }
+        }
+
+        this.selectByIdTimer = tableTimer(meterRegistry, "selectById");
+        this.insertOrUpdateTimer = tableTimer(meterRegistry, "insertOrUpdate");
+        this.historyInsertTimer = tableTimer(meterRegistry, "historyInsert");
+        this.walFailureCounter = Counter.builder("point.wal.failures")
+                .description("이미 반영된 변경을 로그에 남기지 못한 건수")
+                .register(meterRegistry);
+        this.persistFailureCounter = Counter.builder("point.persist.failures")
+                .description("메모리에 반영된 변경을 테이블에 저장하지 못해 다시 시도한 건수")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("point.cache.hits", userPointCache, cache -> cache.stats().hitCount()).register(meterRegistry);
+        FunctionCounter.builder("point.cache.misses", userPointCache, cache -> cache.stats().missCount()).register(meterRegistry);
+        FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.stats().evictionCount()).register(meterRegistry);
+        Gauge.builder("point.cache.size", userPointCache, cache -> cache.stats().size()).register(meterRegistry);
+
+        String strategy = userLockManager.stats().strategy().name();
+        FunctionCounter.builder("point.lock.acquires", userLockManager, manager -> manager.stats().acquireCount())
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+        FunctionCounter.builder("point.lock.contended", userLockManager, manager -> manager.stats().contendedCount())
+                .description("다른 스레드가 락을 잡고 있어 기다려야 했던 횟수")
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+        Gauge.builder("point.lock.count", userLockManager, manager -> manager.stats().lockCount())
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+    }
+
+    public void recordLockWait(TransactionType type, long nanos) {
+        lockWaitTimers[type.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(TransactionType type, long nanos) {
+        lockHoldTimers[type.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSelectById(long nanos) {
+        selectByIdTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordInsertOrUpdate(long nanos) {
+        insertOrUpdateTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistoryInsert(long nanos) {
+        historyInsertTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOutcome(TransactionType type, PointOutcome outcome) {
+        commitCounters[type.ordinal()][outcome.ordinal()].increment();
+    }
+
+    public void recordWalFailure() {
+        walFailureCounter.increment();
+    }
+
+    public void recordPersistFailure() {
+        persistFailureCounter.increment();
+    }
+
+    private static Timer tableTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("point.table.call")
+                .description("테이블 호출 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 요청에 담기는 포인트 충전/사용 작업 한 건
+ */
+public record PointOperation(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 일괄 요청 작업 한 건의 처리 결과
+ * - 성공 시 userPoint 에 반영 후 포인트가, 실패 시 error 에 실패 사유가 담긴다.
+ */
+public record PointOperationResult(
+        long userId,
+        long amount,
+        TransactionType type,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), userPoint, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, ErrorResponse error) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 처리 결과
+ * - SUCCESS : 정상 반영
+ * - INVALID_USER : 유저 아이디가 0 미만
+ * - INVALID_AMOUNT : 금액이 0 이하
+ * - OVER_LIMIT : 충전 시 최대 한도 초과
+ * - INSUFFICIENT_BALANCE : 사용 시 잔고 부족
+ * - INVALID_REQUEST : 그 외 잘못된 요청 (트랜잭션 타입 누락 등)
+ * - UNAVAILABLE : 대기열 포화 등 일시적으로 처리 불가
+ * - ERROR : 그 외 오류
+ */
+public enum PointOutcome {
+    SUCCESS, INVALID_USER, INVALID_AMOUNT, OVER_LIMIT, INSUFFICIENT_BALANCE, INVALID_REQUEST, UNAVAILABLE, ERROR
+}
@@ -1,7 +1,7 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,55 +10,236 @@ import java.util.concurrent.locks.ReentrantLock;
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
     private final UserLockManager userLockManager;
+    private final PointCommitModes pointCommitModes;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
 
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, UserLockManager userLockManager) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, UserLockManager userLockManager, PointCommitModes pointCommitModes, UserPointCache userPointCache, PointHistoryIndex pointHistoryIndex, PointSummaryIndex pointSummaryIndex, PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
         this.userLockManager = userLockManager;
+        this.pointCommitModes = pointCommitModes;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryIndex = pointSummaryIndex;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
     }
 
     public UserPoint getUserPointById(long id) {
-        return userPointTable.selectById(id);
+
+        PointCommitMode mode = pointCommitModes.mode();
+        if (mode == PointCommitMode.OPTIMISTIC) {
+            UserPoint userPoint = pointCommitModes.optimisticCommitter().getBalance(id);
+            if (userPoint != null) {
+                return userPoint;
+            }
+        }
+        if (mode == PointCommitMode.WRITE_BEHIND) {
+            UserPoint userPoint = pointCommitModes.writeBehindQueue().getBalance(id);
+            if (userPoint != null) {
+                return userPoint;
+            }
+        }
+
+        return selectUserPoint(id);
     }
 
     public List<PointHistory> getPointHistoriesByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+
+        if (pointHistoryIndex.isEnabled()) {
+            return pointHistoryIndex.findAllByUserId(userId);
+        }
+
+        return pointHistoryRepository.selectAllByUserId(userId);
+    }
+
+    public PointHistoryPage getPointHistoryPage(long userId, PointHistoryQuery query) {
+
+        if (pointHistoryIndex.isEnabled()) {
+            return PointHistoryPage.of(pointHistoryIndex.findPage(userId, query), query.limit());
+        }
+
+        List<PointHistory> rows = pointHistoryRepository.selectAllByUserId(userId).stream()
+                .filter(query::matches)
+                .limit(query.limit() + 1L)
+                .toList();
+        return PointHistoryPage.of(rows, query.limit());
+    }
+
+    /**
+     * 충전/사용과 로그 복구 시 갱신해 둔 유저별 요약을 내역 수와 관계없이 반환한다.
+     */
+    public PointSummary getPointSummary(long userId) {
+        return pointSummaryIndex.find(userId);
+    }
+
+    /**
+     * 포인트 내역으로 유저별 요약을 다시 계산해, 유지하던 요약과 내역이 일치하는지 확인한다.
+     */
+    public PointSummaryRebuild rebuildPointSummary(long userId) {
+        return pointSummaryIndex.rebuild(userId);
     }
 
     public UserPoint charge(long id, long amount) {
+        return commit(id, amount, TransactionType.CHARGE);
+    }
 
-        ReentrantLock lock = userLockManager.getLock(id);
-        lock.lock();
+    public UserPoint use(long id, long amount) {
+        return commit(id, amount, TransactionType.USE);
+    }
+
+    private UserPoint commit(long id, long amount, TransactionType type) {
         try {
-            UserPoint userPoint = userPointTable.selectById(id);
-            userPoint = userPoint.charge(amount);
+            UserPoint userPoint = route(id, amount, type);
+            pointMetrics.recordOutcome(type, PointOutcome.SUCCESS);
+            return userPoint;
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordOutcome(type, rejectedOutcome(id, amount, type));
+            throw e;
+        } catch (PointUnavailableException e) {
+            pointMetrics.recordOutcome(type, PointOutcome.UNAVAILABLE);
+            throw e;
+        } catch (RuntimeException e) {
+            pointMetrics.recordOutcome(type, PointOutcome.ERROR);
+            throw e;
+        }
+    }
+
+    /**
+     * 거절 사유를 요청 값으로 판단한다. 유저 아이디, 타입, 금액이 유효하면 도메인 규칙이 거절하는 경우는
+     * 충전 시 최대 한도 초과와 사용 시 잔고 부족뿐이다.
+     */
+    private static PointOutcome rejectedOutcome(long id, long amount, TransactionType type) {
+        if (id < 0) {
+            return PointOutcome.INVALID_USER;
+        }
+        if (type == null) {
+            return PointOutcome.INVALID_REQUEST;
+        }
+        if (amount <= 0) {
+            return PointOutcome.INVALID_AMOUNT;
+        }
+        return type == TransactionType.CHARGE ? PointOutcome.OVER_LIMIT : PointOutcome.INSUFFICIENT_BALANCE;
+    }
+
+    private UserPoint route(long id, long amount, TransactionType type) {
+        return switch (pointCommitModes.mode()) {
+            case BATCH, OPTIMISTIC, MAILBOX -> pointCommitModes.committer().commit(id, amount, type);
+            case HOT_USER -> commitAdaptively(id, amount, type);
+            case LOCK, WRITE_BEHIND -> commitWithLock(id, amount, type);
+        };
+    }
 
-            userPoint = userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
-            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, userPoint.updateMillis());
+    /**
+     * 요청이 몰린 유저의 요청은 묶음 처리로, 나머지 유저의 요청은 유저 락 방식으로 처리한다.
+     * 두 방식 모두 같은 유저 락 안에서 잔고를 읽고 저장하므로, 처리 도중 방식이 바뀌어도 요청이 유실되지 않는다.
+     * 두 방식 모두 락 대기 시간을 감지기에 전달해, 묶음 처리 중인 유저도 락 대기 기준으로 계속 판단한다.
+     */
+    private UserPoint commitAdaptively(long id, long amount, TransactionType type) {
 
-            return userPoint;
+        PointHotUserDetector pointHotUserDetector = pointCommitModes.hotUserDetector();
+        boolean hot = pointHotUserDetector.enter(id);
+        try {
+            return hot
+                    ? pointCommitModes.batchCommitter().commit(id, amount, type, lockWaitNanos -> pointHotUserDetector.recordLockWait(id, lockWaitNanos))
+                    : commitWithLock(id, amount, type);
         } finally {
-            lock.unlock();
+            pointHotUserDetector.exit(id);
         }
     }
 
-    public UserPoint use(long id, long amount) {
+    private UserPoint commitWithLock(long id, long amount, TransactionType type) {
 
         ReentrantLock lock = userLockManager.getLock(id);
+        long waitStartedAt = System.nanoTime();
         lock.lock();
+        long acquiredAt = System.nanoTime();
+        pointMetrics.recordLockWait(type, acquiredAt - waitStartedAt);
+        if (pointCommitModes.mode() == PointCommitMode.HOT_USER) {
+            pointCommitModes.hotUserDetector().recordLockWait(id, acquiredAt - waitStartedAt);
+        }
         try {
-            UserPoint userPoint = userPointTable.selectById(id);
-            userPoint = userPoint.use(amount);
+            if (pointCommitModes.mode() == PointCommitMode.WRITE_BEHIND) {
+                return commitWriteBehind(id, amount, type);
+            }
 
-            userPoint = userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
-            pointHistoryTable.insert(id, amount, TransactionType.USE, userPoint.updateMillis());
+            UserPoint userPoint = selectUserPoint(id);
+            userPoint = userPoint.apply(type, amount);
+            appendLog(id, amount, type, userPoint);
+
+            long startedAt = System.nanoTime();
+            userPoint = userPointRepository.insertOrUpdate(userPoint.id(), userPoint.point());
+            pointMetrics.recordInsertOrUpdate(System.nanoTime() - startedAt);
+            userPointCache.put(userPoint);
+
+            startedAt = System.nanoTime();
+            PointHistory pointHistory = pointHistoryRepository.insert(id, amount, type, userPoint.updateMillis());
+            pointMetrics.recordHistoryInsert(System.nanoTime() - startedAt);
+            pointHistoryIndex.record(pointHistory);
+            pointSummaryIndex.record(pointHistory);
 
             return userPoint;
         } finally {
+            pointMetrics.recordLockHold(type, System.nanoTime() - acquiredAt);
             lock.unlock();
         }
     }
+
+    /**
+     * 메모리 잔고에만 반영하고 응답하며, 테이블 저장은 유저별 대기열을 통해 락 밖에서 처리된다.
+     * 로그는 대기열 자리를 확보한 뒤에 남기므로, 대기열이 가득 차 거절된 요청은 로그에 남지 않는다.
+     */
+    private UserPoint commitWriteBehind(long id, long amount, TransactionType type) {
+
+        PointWriteBehindQueue pointWriteBehindQueue = pointCommitModes.writeBehindQueue();
+        UserPoint userPoint = pointWriteBehindQueue.getBalance(id);
+        if (userPoint == null) {
+            userPoint = selectUserPoint(id);
+        }
+        UserPoint updated = userPoint.apply(type, amount);
+
+        pointWriteBehindQueue.enqueue(updated, () -> appendLog(id, amount, type, updated), () -> {
+            userPointRepository.insertOrUpdate(updated.id(), updated.point());
+            PointHistory pointHistory = pointHistoryRepository.insert(id, amount, type, updated.updateMillis());
+            pointHistoryIndex.record(pointHistory);
+            pointSummaryIndex.record(pointHistory);
+        });
+        userPointCache.put(updated);
+
+        return updated;
+    }
+
+    /**
+     * 유저 락 안에서 테이블 반영 전에 로그를 남긴다. 기록에 실패하면 테이블에 반영하지 않고 PointUnavailableException 을 던진다.
+     */
+    private void appendLog(long id, long amount, TransactionType type, UserPoint updated) {
+        if (pointWriteAheadLog.isEnabled()) {
+            pointWriteAheadLog.append(id, type, amount, updated.updateMillis());
+        }
+    }
+
+    private UserPoint selectUserPoint(long id) {
+
+        if (userPointCache.isEnabled()) {
+            return userPointCache.get(id, this::selectUserPointFromTable);
+        }
+
+        return selectUserPointFromTable(id);
+    }
+
+    private UserPoint selectUserPointFromTable(long id) {
+        long startedAt = System.nanoTime();
+        try {
+            return userPointRepository.selectById(id);
+        } finally {
+            pointMetrics.recordSelectById(System.nanoTime() - startedAt);
+        }
+    }
 }
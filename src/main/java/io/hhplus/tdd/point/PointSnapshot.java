@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import java.util.Map;
+
+/**
+ * 특정 로그 순번까지 반영된 전체 유저 잔고
+ * - lsn : 스냅샷에 반영된 마지막 로그 순번, 복구 시 이 순번 이후의 로그만 재생한다.
+ */
+public record PointSnapshot(
+        long lsn,
+        Map<Long, Balance> balances
+) {
+
+    public static PointSnapshot empty() {
+        return new PointSnapshot(0L, Map.of());
+    }
+
+    /**
+     * 로그를 순번 구간 단위로 합산한 잔고
+     * - 로그는 유저 락 안에서 테이블 반영 전에 기록되어 유저별 순서는 반영 순서와 같지만, 구간 단위 합계는 앞선 충전 없이 사용만 더해져 음수일 수 있어 UserPoint 대신 사용한다.
+     */
+    public record Balance(
+            long point,
+            long updateMillis
+    ) {
+
+        public static Balance of(PointWalRecord record) {
+            return new Balance(record.signedAmount(), record.updateMillis());
+        }
+
+        public Balance plus(Balance other) {
+            return new Balance(point + other.point, Math.max(updateMillis, other.updateMillis));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 잔고 스냅샷 설정 (포인트 로그가 활성화된 경우에만 동작)
+ * - enabled : 활성화 시 주기적으로 잔고 스냅샷을 남기고 스냅샷에 반영된 로그 세그먼트를 삭제
+ * - intervalMillis : 스냅샷 주기
+ * - retainedSnapshots : 보관할 스냅샷 파일 수
+ */
+@ConfigurationProperties(prefix = "point.snapshot")
+public record PointSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("60000") long intervalMillis,
+        @DefaultValue("2") int retainedSnapshots
+) {
+
+    public PointSnapshotProperties {
+
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("스냅샷 주기는 0보다 커야 합니다.");
+        }
+        if (retainedSnapshots <= 0) {
+            throw new IllegalArgumentException("보관할 스냅샷 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointSnapshotProperties disabled() {
+        return new PointSnapshotProperties(false, 60000L, 2);
+    }
+}
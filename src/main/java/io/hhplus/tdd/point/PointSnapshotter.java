@@ -0,0 +1,240 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 주기적으로 전체 유저 잔고 스냅샷을 남기고, 스냅샷에 반영된 로그 세그먼트를 삭제한다.
+ * - 새 스냅샷은 직전 스냅샷에 더 이상 기록되지 않는 세그먼트의 로그를 더해 만들므로, 기록 중인 세그먼트나 테이블을 건드리지 않아 충전/사용을 막지 않는다.
+ * - 스냅샷 파일(snapshot-<lsn>.snap)은 임시 파일에 쓰고 강제 기록한 뒤 이름을 바꿔, 쓰는 도중 장애가 나도 이전 스냅샷이 남는다.
+ * - 로그 세그먼트는 보관 중인 가장 오래된 스냅샷 이후부터 남겨, 최근 스냅샷이 손상되어 이전 스냅샷으로 복구해도 빠지는 로그가 없다.
+ */
+@Component
+public class PointSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    static final int SNAPSHOT_MAGIC = 0x50534E31;
+    private static final int ENTRY_BYTES = Long.BYTES * 3;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotProperties properties;
+    private final Path directory;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(PointWriteAheadLog pointWriteAheadLog, PointWalProperties walProperties, PointSnapshotProperties properties) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.properties = properties;
+        this.directory = Path.of(walProperties.directory());
+        this.scheduler = isEnabled() ? Executors.newSingleThreadScheduledExecutor() : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && pointWriteAheadLog.isEnabled();
+    }
+
+    /**
+     * 주기적인 스냅샷을 시작한다. 복구 중 세그먼트가 삭제되지 않도록 복구가 끝난 뒤 호출한다.
+     */
+    public void start() {
+        if (scheduler != null) {
+            scheduler.scheduleWithFixedDelay(this::takeSnapshotQuietly, properties.intervalMillis(), properties.intervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 가장 최근의 정상 스냅샷을 반환한다. 손상된 스냅샷은 건너뛰고, 스냅샷이 없으면 빈 스냅샷을 반환한다.
+     */
+    public PointSnapshot loadLatest() {
+
+        if (!pointWriteAheadLog.isEnabled()) {
+            return PointSnapshot.empty();
+        }
+
+        for (SnapshotFile file : snapshotFiles()) {
+            try {
+                return read(file);
+            } catch (IOException e) {
+                log.warn("손상된 포인트 스냅샷을 건너뜁니다. snapshot={}", file.path(), e);
+            }
+        }
+        return PointSnapshot.empty();
+    }
+
+    /**
+     * 새 스냅샷을 남기고 반환한다. 직전 스냅샷 이후 더 이상 기록되지 않는 세그먼트가 없으면 null 을 반환한다.
+     */
+    public PointSnapshot takeSnapshot() {
+
+        snapshotLock.lock();
+        try {
+            PointSnapshot latest = loadLatest();
+            long sealedLsn = pointWriteAheadLog.sealedLsn();
+            if (sealedLsn <= latest.lsn()) {
+                pointWriteAheadLog.deleteSegmentsThrough(oldestRetainedLsn());
+                return null;
+            }
+
+            Map<Long, PointSnapshot.Balance> balances = new HashMap<>(latest.balances());
+            long lsn = pointWriteAheadLog.replay(latest.lsn(), sealedLsn,
+                    record -> balances.merge(record.userId(), PointSnapshot.Balance.of(record), PointSnapshot.Balance::plus));
+            if (lsn <= latest.lsn()) {
+                return null;
+            }
+
+            PointSnapshot snapshot = new PointSnapshot(lsn, balances);
+            write(snapshot);
+            deleteOldSnapshots();
+            int deletedSegments = pointWriteAheadLog.deleteSegmentsThrough(oldestRetainedLsn());
+
+            log.info("포인트 스냅샷 저장 완료 lsn={}, users={}, deletedSegments={}", lsn, balances.size(), deletedSegments);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷을 저장할 수 없습니다.", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void takeSnapshotQuietly() {
+        try {
+            takeSnapshot();
+        } catch (RuntimeException e) {
+            log.error("포인트 스냅샷 저장에 실패했습니다.", e);
+        }
+    }
+
+    private void write(PointSnapshot snapshot) throws IOException {
+
+        Path target = directory.resolve(snapshotName(snapshot.lsn()));
+        Path temp = directory.resolve(snapshotName(snapshot.lsn()) + TEMP_SUFFIX);
+
+        CRC32C crc = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16), crc))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshot.lsn());
+            out.writeInt(snapshot.balances().size());
+            for (Map.Entry<Long, PointSnapshot.Balance> entry : snapshot.balances().entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue().point());
+                out.writeLong(entry.getValue().updateMillis());
+            }
+            out.writeInt((int) crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static PointSnapshot read(SnapshotFile file) throws IOException {
+
+        CRC32C crc = new CRC32C();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file.path()), 1 << 16), crc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("스냅샷 형식이 올바르지 않습니다.");
+            }
+            long lsn = in.readLong();
+            int count = in.readInt();
+            if (lsn != file.lsn() || count < 0 || count > Files.size(file.path()) / ENTRY_BYTES) {
+                throw new IOException("스냅샷 헤더가 올바르지 않습니다.");
+            }
+
+            Map<Long, PointSnapshot.Balance> balances = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                balances.put(in.readLong(), new PointSnapshot.Balance(in.readLong(), in.readLong()));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("스냅샷 체크섬이 맞지 않습니다.");
+            }
+            return new PointSnapshot(lsn, balances);
+        }
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        List<SnapshotFile> files = snapshotFiles();
+        for (int i = properties.retainedSnapshots(); i < files.size(); i++) {
+            Files.deleteIfExists(files.get(i).path());
+        }
+    }
+
+    /**
+     * 보관 중인 스냅샷 중 가장 오래된 스냅샷의 순번을 반환한다. 이 순번까지의 세그먼트만 삭제할 수 있다.
+     */
+    private long oldestRetainedLsn() {
+        List<SnapshotFile> files = snapshotFiles();
+        return files.isEmpty() ? 0L : files.get(files.size() - 1).lsn();
+    }
+
+    /**
+     * 순번이 큰 스냅샷부터 반환한다.
+     */
+    private List<SnapshotFile> snapshotFiles() {
+
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        List<SnapshotFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX)) {
+                    String lsn = name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length());
+                    files.add(new SnapshotFile(Long.parseLong(lsn), path));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷 목록을 읽을 수 없습니다.", e);
+        }
+        files.sort(Comparator.comparingLong(SnapshotFile::lsn).reversed());
+        return files;
+    }
+
+    private static String snapshotName(long lsn) {
+        return String.format("%s%020d%s", SNAPSHOT_PREFIX, lsn, SNAPSHOT_SUFFIX);
+    }
+
+    private record SnapshotFile(long lsn, Path path) {
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 포인트 요약
+ * - totals : 트랜잭션 타입별 전체 건수와 금액 합계
+ * - lastActivityMillis : 마지막 충전/사용 시간, 내역이 없으면 0
+ * - days : 최근 일별 요약 (날짜 순)
+ */
+public record PointSummary(
+        long userId,
+        Map<TransactionType, PointTypeSummary> totals,
+        long lastActivityMillis,
+        List<PointDailySummary> days
+) {
+}
@@ -0,0 +1,181 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 포인트 요약(타입별 건수/금액 합계, 마지막 활동 시간, 최근 일별 요약)
+ * - 충전/사용마다 모든 유저의 내역을 record 로 더하고, 시작 시에는 로그 복구가 다시 저장한 내역을 같은 방식으로 더해 조회 비용이 내역 수와 무관하다.
+ * - 조회는 테이블을 읽지 않으므로, 내역이 없는 유저는 빈 요약을 반환하고 요약은 내역이 있는 유저만큼 메모리를 사용한다.
+ * - 유저별로 반영한 마지막 내역 아이디를 기억해, 같은 내역이 두 번 더해지지 않는다.
+ * - 일별 요약은 시스템 시간대 기준 날짜로 묶고, 유저의 마지막 활동일부터 retainedDays 일만 남긴다.
+ */
+@Component
+public class PointSummaryIndex {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointSummaryProperties properties;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private final ConcurrentHashMap<Long, UserSummary> summaries = new ConcurrentHashMap<>();
+
+    public PointSummaryIndex(PointHistoryRepository pointHistoryRepository, PointSummaryProperties properties) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 테이블에 저장된 포인트 내역을 요약에 반영한다.
+     */
+    public void record(PointHistory pointHistory) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        UserSummary summary = summaries.computeIfAbsent(pointHistory.userId(), key -> new UserSummary());
+        summary.lock.lock();
+        try {
+            summary.add(pointHistory);
+        } finally {
+            summary.lock.unlock();
+        }
+    }
+
+    public PointSummary find(long userId) {
+
+        verify(userId);
+        UserSummary summary = summaries.get(userId);
+        if (summary == null) {
+            return new UserSummary().toSummary(userId);
+        }
+
+        summary.lock.lock();
+        try {
+            return summary.toSummary(userId);
+        } finally {
+            summary.lock.unlock();
+        }
+    }
+
+    /**
+     * 테이블의 공개 API 로 해당 유저의 요약을 다시 계산하고, 기존 요약과 일치했는지 함께 반환한다.
+     */
+    public PointSummaryRebuild rebuild(long userId) {
+
+        verify(userId);
+        UserSummary summary = summaries.computeIfAbsent(userId, key -> new UserSummary());
+        summary.lock.lock();
+        try {
+            PointSummary before = summary.toSummary(userId);
+            summary.load(pointHistoryRepository.selectAllByUserId(userId));
+            PointSummary after = summary.toSummary(userId);
+            return new PointSummaryRebuild(before, after, before.equals(after));
+        } finally {
+            summary.lock.unlock();
+        }
+    }
+
+    private void verify(long userId) {
+
+        if (!isEnabled()) {
+            throw new PointUnavailableException("포인트 요약 기능이 비활성화되어 있습니다.");
+        }
+        if (userId < 0) {
+            throw new IllegalArgumentException("유저 아이디 값은 0 이상이어야 합니다.");
+        }
+    }
+
+    private final class UserSummary {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Totals totals = new Totals();
+        private final TreeMap<Long, Totals> days = new TreeMap<>();
+        private long lastHistoryId;
+        private long lastActivityMillis;
+
+        private void add(PointHistory pointHistory) {
+
+            if (pointHistory.id() <= lastHistoryId) {
+                return;
+            }
+            lastHistoryId = pointHistory.id();
+            lastActivityMillis = Math.max(lastActivityMillis, pointHistory.updateMillis());
+            totals.add(pointHistory);
+
+            if (properties.retainedDays() == 0) {
+                return;
+            }
+            long day = epochDay(pointHistory.updateMillis());
+            days.computeIfAbsent(day, key -> new Totals()).add(pointHistory);
+            long firstRetainedDay = days.lastKey() - properties.retainedDays() + 1;
+            days.headMap(firstRetainedDay).clear();
+        }
+
+        private void load(List<PointHistory> rows) {
+
+            totals.clear();
+            days.clear();
+            lastHistoryId = 0;
+            lastActivityMillis = 0;
+            for (PointHistory row : rows) {
+                add(row);
+            }
+        }
+
+        private PointSummary toSummary(long userId) {
+
+            List<PointDailySummary> daily = new ArrayList<>(days.size());
+            for (Map.Entry<Long, Totals> entry : days.entrySet()) {
+                daily.add(new PointDailySummary(LocalDate.ofEpochDay(entry.getKey()), entry.getValue().toMap()));
+            }
+            return new PointSummary(userId, totals.toMap(), lastActivityMillis, List.copyOf(daily));
+        }
+
+        private long epochDay(long millis) {
+            return LocalDate.ofInstant(Instant.ofEpochMilli(millis), zoneId).toEpochDay();
+        }
+    }
+
+    private static final class Totals {
+
+        private final long[] counts = new long[TYPES.length];
+        private final long[] amounts = new long[TYPES.length];
+
+        private void add(PointHistory pointHistory) {
+            counts[pointHistory.type().ordinal()]++;
+            amounts[pointHistory.type().ordinal()] += pointHistory.amount();
+        }
+
+        private void clear() {
+            for (int i = 0; i < TYPES.length; i++) {
+                counts[i] = 0;
+                amounts[i] = 0;
+            }
+        }
+
+        private Map<TransactionType, PointTypeSummary> toMap() {
+            Map<TransactionType, PointTypeSummary> map = new EnumMap<>(TransactionType.class);
+            for (TransactionType type : TYPES) {
+                map.put(type, new PointTypeSummary(counts[type.ordinal()], amounts[type.ordinal()]));
+            }
+            return map;
+        }
+    }
+}
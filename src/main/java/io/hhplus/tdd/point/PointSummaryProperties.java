@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저별 포인트 요약 설정
+ * - enabled : 활성화 시 충전/사용마다 유저별 요약을 갱신하고 요약 조회를 허용
+ * - retainedDays : 일별 요약을 남길 기간 (유저의 마지막 활동일 기준, 0 이면 일별 요약을 남기지 않음)
+ */
+@ConfigurationProperties(prefix = "point.summary")
+public record PointSummaryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30") int retainedDays
+) {
+
+    public PointSummaryProperties {
+
+        if (retainedDays < 0) {
+            throw new IllegalArgumentException("일별 요약 보관 기간은 0 이상이어야 합니다.");
+        }
+    }
+
+    public static PointSummaryProperties disabled() {
+        return new PointSummaryProperties(false, 0);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역으로 다시 만든 요약과 다시 만들기 전 요약
+ * - consistent : 다시 만들기 전 요약이 포인트 내역과 일치했는지 여부
+ */
+public record PointSummaryRebuild(
+        PointSummary before,
+        PointSummary after,
+        boolean consistent
+) {
+}
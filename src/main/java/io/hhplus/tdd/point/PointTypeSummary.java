@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 트랜잭션 타입별 건수와 금액 합계
+ */
+public record PointTypeSummary(
+        long count,
+        long amount
+) {
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 대기열 포화 등 일시적인 이유로 요청을 처리할 수 없을 때 발생하는 예외
+ */
+public class PointUnavailableException extends RuntimeException {
+
+    public PointUnavailableException(String message) {
+        super(message);
+    }
+
+    public PointUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
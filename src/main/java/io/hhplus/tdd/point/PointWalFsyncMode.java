@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 로그를 디스크에 강제 기록(fsync)하는 시점
+ * - PER_OP : 기록할 때마다 강제 기록 후 응답
+ * - BATCH : 동시에 기록된 요청들을 한 번의 강제 기록으로 묶은 뒤 응답 (group commit)
+ * - INTERVAL : 주기적으로 강제 기록하고 응답은 기다리지 않음, 장애 시 마지막 주기만큼 유실될 수 있음
+ */
+public enum PointWalFsyncMode {
+    PER_OP, BATCH, INTERVAL
+}
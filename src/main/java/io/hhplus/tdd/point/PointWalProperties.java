@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 로그(write-ahead log) 설정
+ * - enabled : 활성화 시 충전/사용 결과를 로그 파일에 남기고 시작 시 로그로 테이블을 복구
+ * - directory : 로그 세그먼트 파일을 저장할 디렉터리
+ * - segmentBytes : 세그먼트 파일 하나의 최대 크기, 넘으면 새 세그먼트로 교체
+ * - fsyncMode : 디스크 강제 기록 시점
+ * - fsyncIntervalMillis : INTERVAL 모드의 강제 기록 주기
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record PointWalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/wal") String directory,
+        @DefaultValue("67108864") long segmentBytes,
+        @DefaultValue("batch") PointWalFsyncMode fsyncMode,
+        @DefaultValue("100") long fsyncIntervalMillis
+) {
+
+    public PointWalProperties {
+
+        if (enabled && (directory == null || directory.isBlank())) {
+            throw new IllegalArgumentException("로그 디렉터리는 필수입니다.");
+        }
+        if (segmentBytes < PointWriteAheadLog.HEADER_BYTES + PointWriteAheadLog.RECORD_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다.");
+        }
+        if (fsyncMode == null) {
+            throw new IllegalArgumentException("강제 기록 방식은 필수입니다.");
+        }
+        if (fsyncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("강제 기록 주기는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointWalProperties disabled() {
+        return new PointWalProperties(false, "data/wal", 67108864L, PointWalFsyncMode.BATCH, 100L);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 로그에 기록된 충전/사용 한 건
+ * - lsn : 로그 순번, 1 부터 빈틈 없이 증가
+ */
+public record PointWalRecord(
+        long lsn,
+        long userId,
+        TransactionType type,
+        long amount,
+        long updateMillis
+) {
+
+    /**
+     * 잔고에 더해지는 금액, 사용은 음수로 반환한다.
+     */
+    public long signedAmount() {
+        return type == TransactionType.CHARGE ? amount : -amount;
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 포인트 로그로 테이블을 복구한다.
+ * - 가장 최근 스냅샷의 잔고에서 시작해 스냅샷 이후의 로그만 재생한다.
+ * - 로그를 한 번 읽으면서 포인트 내역은 순서대로 테이블에 다시 저장해 내역 인덱스와 요약에 반영하고, 잔고는 유저별로 합산해 유저마다 한 번만 저장한다.
+ * - 스냅샷 이전의 포인트 내역은 로그와 함께 삭제되어 복구되지 않는다.
+ * - 요청을 받기 전에 끝나도록 빈 초기화 단계에서 실행하고, 복구가 끝나면 주기적인 스냅샷을 시작한다.
+ */
+@Component
+public class PointWalRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWalRecovery.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotter pointSnapshotter;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+
+    public PointWalRecovery(PointWriteAheadLog pointWriteAheadLog, PointSnapshotter pointSnapshotter, UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, PointHistoryIndex pointHistoryIndex, PointSummaryIndex pointSummaryIndex) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointSnapshotter = pointSnapshotter;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointSummaryIndex = pointSummaryIndex;
+    }
+
+    @PostConstruct
+    public void recover() {
+
+        if (!pointWriteAheadLog.isEnabled()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        PointSnapshot snapshot = pointSnapshotter.loadLatest();
+        Map<Long, Long> balances = new HashMap<>();
+        snapshot.balances().forEach((userId, balance) -> balances.put(userId, balance.point()));
+
+        long[] recordCount = new long[1];
+        long lastLsn = pointWriteAheadLog.replay(snapshot.lsn(), record -> {
+            balances.merge(record.userId(), record.signedAmount(), Long::sum);
+            PointHistory pointHistory = pointHistoryRepository.insert(record.userId(), record.amount(), record.type(), record.updateMillis());
+            pointHistoryIndex.record(pointHistory);
+            pointSummaryIndex.record(pointHistory);
+            recordCount[0]++;
+        });
+        balances.forEach(userPointRepository::insertOrUpdate);
+        pointSnapshotter.start();
+
+        log.info("포인트 로그 복구 완료 snapshotLsn={}, records={}, users={}, lastLsn={}, elapsedMillis={}",
+                snapshot.lsn(), recordCount[0], balances.size(), lastLsn, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,500 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 충전/사용 결과를 순서대로 남기는 추가 전용 로그
+ * - 로그는 세그먼트 파일(wal-<첫 lsn>.log)로 나뉘며, segmentBytes 를 넘으면 새 세그먼트에 이어서 기록한다.
+ * - 레코드는 고정 길이이고 CRC32C 체크섬과 순번을 함께 남겨, 기록 도중 끊긴 레코드(torn write)는 읽을 때 감지해 버린다.
+ * - 디스크 강제 기록 시점은 fsyncMode 로 정한다.
+ */
+@Component
+public class PointWriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteAheadLog.class);
+
+    static final int SEGMENT_MAGIC = 0x50574C31;
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    static final int RECORD_BYTES = Integer.BYTES + Long.BYTES * 4 + Byte.BYTES;
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final PointWalProperties properties;
+    private final Path directory;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(RECORD_BYTES);
+    private final CRC32C checksum = new CRC32C();
+    private final AtomicLong durableLsn = new AtomicLong();
+    private final ScheduledExecutorService syncScheduler;
+    private FileChannel channel;
+    private long activeFirstLsn;
+    private long segmentSize;
+    private long lastLsn;
+
+    public PointWriteAheadLog(PointWalProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.directory());
+        this.syncScheduler = properties.enabled() && properties.fsyncMode() == PointWalFsyncMode.INTERVAL
+                ? Executors.newSingleThreadScheduledExecutor()
+                : null;
+
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 열 수 없습니다.", e);
+        }
+        if (syncScheduler != null) {
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, properties.fsyncIntervalMillis(), properties.fsyncIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 충전/사용 한 건을 로그에 기록하고 순번을 반환한다.
+     * - PER_OP, BATCH 모드에서는 디스크에 강제 기록된 뒤 반환한다.
+     */
+    public long append(long userId, TransactionType type, long amount, long updateMillis) {
+
+        long lsn = appendDeferred(userId, type, amount, updateMillis);
+        awaitAppended(lsn);
+        return lsn;
+    }
+
+    /**
+     * 여러 건을 이어서 기록할 때 사용한다. 기록만 하고 BATCH 모드의 강제 기록 대기는 awaitAppended 로 미뤄, 마지막 건에서 한 번만 기다린다.
+     */
+    long appendDeferred(long userId, TransactionType type, long amount, long updateMillis) {
+
+        long lsn;
+        appendLock.lock();
+        try {
+            if (segmentSize + RECORD_BYTES > properties.segmentBytes()) {
+                rotate();
+            }
+            lsn = lastLsn + 1;
+            encode(lsn, userId, type, amount, updateMillis);
+            write(recordBuffer);
+            if (properties.fsyncMode() == PointWalFsyncMode.PER_OP) {
+                channel.force(false);
+            }
+            // 강제 기록까지 성공한 뒤에 위치와 순번을 옮겨, 실패하면 레코드를 지우고 같은 순번을 다시 쓴다.
+            segmentSize += RECORD_BYTES;
+            lastLsn = lsn;
+            if (properties.fsyncMode() == PointWalFsyncMode.PER_OP) {
+                markDurable(lsn);
+            }
+        } catch (IOException e) {
+            discardPartialWrite();
+            throw new PointUnavailableException("포인트 로그 기록에 실패했습니다.", e);
+        } finally {
+            appendLock.unlock();
+        }
+        return lsn;
+    }
+
+    /**
+     * appendDeferred 로 기록한 lsn 까지 fsyncMode 에 맞게 디스크에 강제 기록되기를 기다린다.
+     */
+    void awaitAppended(long lsn) {
+        if (properties.fsyncMode() == PointWalFsyncMode.BATCH) {
+            awaitDurable(lsn);
+        }
+    }
+
+    /**
+     * afterLsn 보다 순번이 큰 레코드를 순서대로 전달하고 마지막으로 읽은 순번을 반환한다.
+     * - 체크섬이나 순번이 맞지 않는 레코드를 만나면 그 뒤는 읽지 않는다.
+     * - afterLsn 바로 다음 레코드가 이미 삭제된 세그먼트에 있었다면, 빠진 구간을 건너뛰지 않고 IllegalStateException 을 던진다.
+     */
+    public long replay(long afterLsn, Consumer<PointWalRecord> consumer) {
+        return replay(afterLsn, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * afterLsn 보다 크고 untilLsn 이하인 레코드를 순서대로 전달하고 마지막으로 읽은 순번을 반환한다.
+     */
+    public long replay(long afterLsn, long untilLsn, Consumer<PointWalRecord> consumer) {
+
+        if (!isEnabled()) {
+            return afterLsn;
+        }
+
+        List<Segment> segments = segments();
+        long replayedLsn = afterLsn;
+        boolean first = true;
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            Segment next = i + 1 < segments.size() ? segments.get(i + 1) : null;
+            if (next != null && next.firstLsn() <= afterLsn + 1) {
+                continue;
+            }
+            if (first && segment.firstLsn() > afterLsn + 1) {
+                throw new IllegalStateException("포인트 로그에 빠진 구간이 있어 복구할 수 없습니다. afterLsn=" + afterLsn + ", firstLsn=" + segment.firstLsn());
+            }
+            first = false;
+            if (segment.firstLsn() > untilLsn) {
+                break;
+            }
+
+            SegmentScan scan = scan(segment, afterLsn, untilLsn, consumer);
+            replayedLsn = Math.max(replayedLsn, scan.lastLsn());
+            if (scan.lastLsn() >= untilLsn) {
+                break;
+            }
+            if (next != null && scan.lastLsn() + 1 != next.firstLsn()) {
+                log.warn("포인트 로그 세그먼트가 손상되어 이후 레코드는 복구하지 않습니다. segment={}, lastLsn={}", segment.path(), scan.lastLsn());
+                break;
+            }
+        }
+        return replayedLsn;
+    }
+
+    /**
+     * 더 이상 기록되지 않는 세그먼트(현재 기록 중인 세그먼트 이전)의 마지막 순번을 반환한다.
+     */
+    public long sealedLsn() {
+        appendLock.lock();
+        try {
+            return activeFirstLsn - 1;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 레코드가 lsn 이하인 세그먼트를 삭제하고 삭제한 세그먼트 수를 반환한다. 기록 중인 세그먼트는 삭제하지 않는다.
+     */
+    public int deleteSegmentsThrough(long lsn) {
+
+        if (!isEnabled()) {
+            return 0;
+        }
+
+        List<Segment> segments = segments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (segments.get(i + 1).firstLsn() - 1 > lsn) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i).path());
+                deleted++;
+            } catch (IOException e) {
+                log.warn("포인트 로그 세그먼트를 삭제하지 못했습니다. segment={}", segments.get(i).path(), e);
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    public long lastLsn() {
+        appendLock.lock();
+        try {
+            return lastLsn;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        if (!isEnabled()) {
+            return;
+        }
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+            syncScheduler.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        appendLock.lock();
+        try {
+            if (channel.isOpen()) {
+                channel.force(false);
+                markDurable(lastLsn);
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.error("포인트 로그를 닫는 중 오류가 발생했습니다.", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+
+        Files.createDirectories(directory);
+        List<Segment> segments = segments();
+        if (segments.isEmpty()) {
+            createSegment(1L);
+            lastLsn = 0L;
+            return;
+        }
+
+        Segment last = segments.get(segments.size() - 1);
+        SegmentScan scan = scan(last, Long.MAX_VALUE, Long.MAX_VALUE, record -> {
+        });
+        if (scan.validBytes() < HEADER_BYTES) {
+            createSegment(last.firstLsn());
+            lastLsn = last.firstLsn() - 1;
+            durableLsn.set(lastLsn);
+            return;
+        }
+
+        channel = FileChannel.open(last.path(), StandardOpenOption.WRITE);
+        if (scan.validBytes() < channel.size()) {
+            log.warn("포인트 로그 끝의 불완전한 레코드를 버립니다. segment={}, bytes={}", last.path(), channel.size() - scan.validBytes());
+            channel.truncate(scan.validBytes());
+            channel.force(false);
+        }
+        channel.position(scan.validBytes());
+        activeFirstLsn = last.firstLsn();
+        segmentSize = scan.validBytes();
+        lastLsn = scan.lastLsn();
+        durableLsn.set(lastLsn);
+    }
+
+    /**
+     * appendLock 을 잡은 상태에서 호출한다.
+     */
+    private void rotate() throws IOException {
+        channel.force(false);
+        markDurable(lastLsn);
+        channel.close();
+        createSegment(lastLsn + 1);
+    }
+
+    private void createSegment(long firstLsn) throws IOException {
+
+        Path path = directory.resolve(segmentName(firstLsn));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(SEGMENT_MAGIC).putLong(firstLsn).flip();
+        write(header);
+        channel.force(true);
+        activeFirstLsn = firstLsn;
+        segmentSize = HEADER_BYTES;
+    }
+
+    private void encode(long lsn, long userId, TransactionType type, long amount, long updateMillis) {
+
+        recordBuffer.clear();
+        recordBuffer.putInt(0)
+                .putLong(lsn)
+                .putLong(userId)
+                .put((byte) type.ordinal())
+                .putLong(amount)
+                .putLong(updateMillis);
+
+        checksum.reset();
+        checksum.update(recordBuffer.slice(Integer.BYTES, RECORD_BYTES - Integer.BYTES));
+        recordBuffer.putInt(0, (int) checksum.getValue());
+        recordBuffer.flip();
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 기록 도중 실패한 레코드(일부만 쓰였거나 강제 기록에 실패한 레코드)가 남지 않도록 마지막 정상 위치로 되돌린다.
+     * 순번은 옮기지 않았으므로 다음 기록은 같은 순번으로 이어진다.
+     */
+    private void discardPartialWrite() {
+        try {
+            if (channel.isOpen()) {
+                channel.truncate(segmentSize);
+                channel.position(segmentSize);
+            }
+        } catch (IOException e) {
+            log.error("포인트 로그를 마지막 정상 위치로 되돌리지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 먼저 들어온 스레드가 그때까지 기록된 레코드를 한 번에 강제 기록하고, 그 사이 기다리던 스레드들은 결과만 확인한다.
+     */
+    private void awaitDurable(long lsn) {
+
+        if (durableLsn.get() >= lsn) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (durableLsn.get() < lsn) {
+                sync();
+            }
+        } catch (IOException e) {
+            throw new PointUnavailableException("포인트 로그 강제 기록에 실패했습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        syncLock.lock();
+        try {
+            sync();
+        } catch (IOException e) {
+            log.error("포인트 로그 강제 기록에 실패했습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * syncLock 을 잡은 상태에서 호출한다. 강제 기록은 appendLock 밖에서 진행해 그동안에도 기록은 계속된다.
+     */
+    private void sync() throws IOException {
+
+        FileChannel current;
+        long target;
+        appendLock.lock();
+        try {
+            current = channel;
+            target = lastLsn;
+        } finally {
+            appendLock.unlock();
+        }
+
+        try {
+            current.force(false);
+            markDurable(target);
+        } catch (ClosedChannelException e) {
+            // 세그먼트 교체 시 이전 세그먼트는 닫기 전에 강제 기록된다.
+            if (durableLsn.get() < target) {
+                throw e;
+            }
+        }
+    }
+
+    private void markDurable(long lsn) {
+        durableLsn.accumulateAndGet(lsn, Math::max);
+    }
+
+    private List<Segment> segments() {
+
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    String lsn = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                    segments.add(new Segment(Long.parseLong(lsn), path));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그 세그먼트 목록을 읽을 수 없습니다.", e);
+        }
+        segments.sort(Comparator.comparingLong(Segment::firstLsn));
+        return segments;
+    }
+
+    private static String segmentName(long firstLsn) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * 세그먼트를 처음부터 읽어 정상 레코드 중 afterLsn 이후 untilLsn 까지의 레코드를 전달하고, 마지막 정상 순번과 정상 구간 길이를 반환한다.
+     */
+    private static SegmentScan scan(Segment segment, long afterLsn, long untilLsn, Consumer<PointWalRecord> consumer) {
+
+        try (FileChannel in = FileChannel.open(segment.path(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES).flip();
+            if (!fill(in, buffer, HEADER_BYTES) || buffer.getInt() != SEGMENT_MAGIC || buffer.getLong() != segment.firstLsn()) {
+                return new SegmentScan(segment.firstLsn() - 1, 0L);
+            }
+
+            CRC32C crc = new CRC32C();
+            long expectedLsn = segment.firstLsn();
+            long validBytes = HEADER_BYTES;
+            while (expectedLsn <= untilLsn && fill(in, buffer, RECORD_BYTES)) {
+                int start = buffer.position();
+                crc.reset();
+                crc.update(buffer.slice(start + Integer.BYTES, RECORD_BYTES - Integer.BYTES));
+
+                int storedChecksum = buffer.getInt();
+                long lsn = buffer.getLong();
+                long userId = buffer.getLong();
+                int type = buffer.get();
+                long amount = buffer.getLong();
+                long updateMillis = buffer.getLong();
+                if (storedChecksum != (int) crc.getValue() || lsn != expectedLsn || type < 0 || type >= TYPES.length) {
+                    break;
+                }
+
+                if (lsn > afterLsn) {
+                    consumer.accept(new PointWalRecord(lsn, userId, TYPES[type], amount, updateMillis));
+                }
+                expectedLsn++;
+                validBytes += RECORD_BYTES;
+            }
+            return new SegmentScan(expectedLsn - 1, validBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그 세그먼트를 읽을 수 없습니다. segment=" + segment.path(), e);
+        }
+    }
+
+    private static boolean fill(FileChannel in, ByteBuffer buffer, int required) throws IOException {
+
+        if (buffer.remaining() >= required) {
+            return true;
+        }
+
+        buffer.compact();
+        while (buffer.position() < required) {
+            if (in.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private record Segment(long firstLsn, Path path) {
+    }
+
+    private record SegmentScan(long lastLsn, long validBytes) {
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 write-behind 설정
+ * - enabled : 활성화 시 충전/사용 결과를 메모리 잔고에 먼저 반영하고 테이블 저장은 비동기로 처리
+ * - queueCapacity : 유저별 저장 대기열 최대 길이
+ * - offerTimeoutMillis : 대기열이 가득 찼을 때 빈 자리를 기다리는 최대 시간
+ * - drainThreads : 대기열을 비우는 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.write-behind")
+public record PointWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("1000") long offerTimeoutMillis,
+        @DefaultValue("4") int drainThreads
+) {
+
+    public PointWriteBehindProperties {
+
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("저장 대기열 크기는 0보다 커야 합니다.");
+        }
+        if (offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("저장 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (drainThreads <= 0) {
+            throw new IllegalArgumentException("저장 스레드 수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static PointWriteBehindProperties disabled() {
+        return new PointWriteBehindProperties(false, 1000, 1000L, 4);
+    }
+}
@@ -0,0 +1,293 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유저별 순서를 보장하는 테이블 저장 대기열
+ * - 충전/사용 결과는 메모리 잔고에 먼저 반영되고, 테이블 저장 작업은 유저별 대기열에 쌓인 순서대로 비동기 처리된다.
+ * - 대기열이 가득 차면 offerTimeoutMillis 만큼 기다린 뒤 요청을 거절한다.
+ * - 대기열 자리를 먼저 확보한 뒤 로그를 남기고 등록하므로, 거절된 요청은 로그에도 남지 않는다.
+ * - 저장에 실패한 작업은 대기열 맨 앞에 남겨 일정 시간 뒤 그 작업부터 다시 저장한다. 실패가 이어지면 대기열이 가득 차 새 요청은 거절된다.
+ * - 모든 작업이 저장된 유저는 대기열과 메모리 잔고를 제거해, 메모리는 저장 대기 중인 유저 수만큼만 사용한다. 이후 조회는 테이블의 잔고를 읽는다.
+ * - 애플리케이션 종료 시 새 요청을 PointUnavailableException 으로 거절하고, 남아 있는 저장 작업을 모두 처리한다.
+ */
+@Component
+public class PointWriteBehindQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteBehindQueue.class);
+    private static final long RETRY_DELAY_MILLIS = 100L;
+
+    private final PointWriteBehindProperties properties;
+    private final ConcurrentHashMap<Long, UserWriteQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final ScheduledThreadPoolExecutor drainExecutor;
+    // closeLock 안에서만 읽고 쓴다.
+    private boolean closed;
+
+    public PointWriteBehindQueue(PointWriteBehindProperties properties) {
+        this.properties = properties;
+        this.drainExecutor = properties.enabled() ? new ScheduledThreadPoolExecutor(properties.drainThreads()) : null;
+        if (drainExecutor != null) {
+            drainExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 아직 테이블에 저장되지 않았을 수 있는 최신 잔고를 반환한다. 저장 대기 중인 작업이 없어 제거된 유저는 null 을 반환한다.
+     */
+    public UserPoint getBalance(long userId) {
+        UserWriteQueue queue = queues.get(userId);
+        return queue == null ? null : queue.balance;
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출해야 유저별 저장 순서가 보장된다.
+     */
+    public void enqueue(UserPoint userPoint, Runnable write) {
+        enqueue(userPoint, () -> {
+        }, write);
+    }
+
+    /**
+     * 대기열 자리를 확보한 뒤 beforeEnqueue(로그 기록)를 실행하고 저장 작업을 등록한다.
+     * 종료되었거나 자리를 확보하지 못하거나 beforeEnqueue 가 실패하면 등록하지 않고 예외를 던진다.
+     * 유저 락을 잡은 상태에서 호출해야 유저별 저장 순서가 보장된다.
+     */
+    public void enqueue(UserPoint userPoint, Runnable beforeEnqueue, Runnable write) {
+
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new PointUnavailableException("포인트 저장 대기열이 종료되었습니다.");
+            }
+
+            UserWriteQueue queue = lockQueue(userPoint.id());
+            try {
+                reserve(queue);
+                try {
+                    beforeEnqueue.run();
+                } catch (RuntimeException e) {
+                    queue.slots.release();
+                    throw e;
+                }
+
+                pendingCount.incrementAndGet();
+                queue.writes.add(write);
+                queue.balance = userPoint;
+                schedule(queue);
+            } finally {
+                queue.lock.unlock();
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public long pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 저장 대기 중인 작업이 있어 대기열과 메모리 잔고를 보관 중인 유저 수를 반환한다.
+     */
+    public int activeUserCount() {
+        return queues.size();
+    }
+
+    /**
+     * 대기열에 쌓인 저장 작업이 모두 처리될 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 모두 처리되었는지 여부
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        drainLock.lock();
+        try {
+            while (pendingCount.get() > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = drained.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        if (drainExecutor == null) {
+            return;
+        }
+        // 등록 중인 요청이 끝나기를 기다린 뒤 닫아, 종료 후에는 등록된 작업의 저장 예약이 거절되지 않도록 한다.
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        if (!flush(TimeUnit.SECONDS.toMillis(30))) {
+            log.warn("종료 시점까지 저장되지 못한 포인트 저장 작업이 있습니다. count={}", pendingCount.get());
+        }
+        drainExecutor.shutdown();
+        drainExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 유저의 대기열을 잠근 채 반환한다. 그사이 제거된 대기열이면 새 대기열을 만든다.
+     */
+    private UserWriteQueue lockQueue(long userId) {
+        while (true) {
+            UserWriteQueue queue = queues.computeIfAbsent(userId, key -> new UserWriteQueue(key, properties.queueCapacity()));
+            queue.lock.lock();
+            if (!queue.evicted) {
+                return queue;
+            }
+            queue.lock.unlock();
+        }
+    }
+
+    private void reserve(UserWriteQueue queue) {
+
+        boolean reserved;
+        try {
+            reserved = queue.slots.tryAcquire(properties.offerTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PointUnavailableException("포인트 저장 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        if (!reserved) {
+            throw new PointUnavailableException("포인트 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void schedule(UserWriteQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(() -> drain(queue));
+            } catch (RejectedExecutionException e) {
+                queue.scheduled.set(false);
+                log.error("종료 중이라 포인트 저장 작업을 처리하지 않습니다. userId={}, pending={}", queue.userId, queue.writes.size());
+            }
+        }
+    }
+
+    /**
+     * 저장에 성공한 작업만 대기열에서 꺼내, 실패한 작업은 다음 시도에서 같은 순서로 다시 저장한다.
+     */
+    private void drain(UserWriteQueue queue) {
+
+        Runnable write;
+        while ((write = queue.writes.peek()) != null) {
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                log.error("포인트 저장 작업 처리 중 오류가 발생해 다시 시도합니다. userId={}, pending={}", queue.userId, queue.writes.size(), e);
+                scheduleRetry(queue);
+                return;
+            }
+            queue.writes.poll();
+            queue.slots.release();
+            completeOne();
+        }
+
+        if (evictIfDrained(queue)) {
+            return;
+        }
+        queue.scheduled.set(false);
+        if (!queue.writes.isEmpty()) {
+            schedule(queue);
+        }
+    }
+
+    /**
+     * 재시도를 기다리는 동안 scheduled 를 유지해 다른 스레드가 같은 대기열을 처리하지 않도록 한다.
+     */
+    private void scheduleRetry(UserWriteQueue queue) {
+        try {
+            drainExecutor.schedule(() -> drain(queue), RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            queue.scheduled.set(false);
+            log.error("종료 중이라 포인트 저장을 다시 시도하지 않습니다. userId={}, pending={}", queue.userId, queue.writes.size());
+        }
+    }
+
+    /**
+     * 등록 중인 요청이 없고 모든 작업이 저장된 대기열을 제거한다. 등록 중이면 그 요청이 끝난 뒤 다시 처리되므로 제거하지 않는다.
+     */
+    private boolean evictIfDrained(UserWriteQueue queue) {
+
+        if (!queue.lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (!queue.writes.isEmpty()) {
+                return false;
+            }
+            queue.evicted = true;
+            queues.remove(queue.userId, queue);
+            return true;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    private void completeOne() {
+        if (pendingCount.decrementAndGet() == 0) {
+            drainLock.lock();
+            try {
+                drained.signalAll();
+            } finally {
+                drainLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 유저 한 명의 저장 대기열
+     * - lock 은 등록과 제거가 겹치지 않도록 하며, 제거된(evicted) 대기열에는 더 이상 등록하지 않는다.
+     * - slots 는 등록 전에 확보하고 저장이 끝나면 반환하는 대기열 자리다.
+     */
+    private static class UserWriteQueue {
+
+        private final long userId;
+        private final Queue<Runnable> writes = new ConcurrentLinkedQueue<>();
+        private final Semaphore slots;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile UserPoint balance;
+        // lock 안에서만 변경된다.
+        private boolean evicted;
+
+        private UserWriteQueue(long userId, int capacity) {
+            this.userId = userId;
+            this.slots = new Semaphore(capacity);
+        }
+    }
+}
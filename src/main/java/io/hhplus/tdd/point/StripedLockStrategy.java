@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정된 개수의 락을 유저 아이디 해시로 나눠 사용하는 방식
+ * - 락 개수가 유저 수와 무관하게 고정되지만, 같은 락을 공유하는 다른 유저끼리는 서로 기다릴 수 있다.
+ */
+class StripedLockStrategy implements UserLockStrategy {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+
+    StripedLockStrategy(int stripeCount, boolean fair) {
+
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ContentionTrackingLock(fair, acquireCount, contendedCount);
+        }
+    }
+
+    @Override
+    public ReentrantLock getLock(long userId) {
+        return stripes[spread(userId) & mask];
+    }
+
+    @Override
+    public UserLockStats stats() {
+        return new UserLockStats(UserLockStrategyType.STRIPED, stripes.length, acquireCount.sum(), contendedCount.sum());
+    }
+
+    private static int spread(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
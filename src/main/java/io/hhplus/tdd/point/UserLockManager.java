@@ -1,16 +1,40 @@
 package io.hhplus.tdd.point;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class UserLockManager {
 
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final UserLockStrategy strategy;
+
+    public UserLockManager() {
+        this(UserLockProperties.defaults());
+    }
+
+    @Autowired
+    public UserLockManager(UserLockProperties properties) {
+        this.strategy = switch (properties.strategy()) {
+            case PER_USER -> new PerUserLockStrategy(properties.fair());
+            case STRIPED -> new StripedLockStrategy(properties.stripes(), properties.fair());
+            case EVICTING -> new EvictingLockStrategy(properties.fair());
+        };
+    }
 
     public ReentrantLock getLock(long userId) {
-        return lockMap.computeIfAbsent(userId, key -> new ReentrantLock(true));
+        return strategy.getLock(userId);
+    }
+
+    /**
+     * 유저 락을 기다리지 않고 잡는다. 다른 스레드가 잡고 있으면 null 을 반환한다.
+     */
+    public ReentrantLock tryLock(long userId) {
+        return strategy.tryLock(userId);
+    }
+
+    public UserLockStats stats() {
+        return strategy.stats();
     }
 }
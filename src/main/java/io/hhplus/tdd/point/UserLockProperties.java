@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 락 설정
+ * - strategy : 유저 락 관리 방식
+ * - fair : 공정 락 사용 여부
+ * - stripes : STRIPED 방식에서 사용하는 락 개수, 2의 거듭제곱으로 올림
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+        @DefaultValue("PER_USER") UserLockStrategyType strategy,
+        @DefaultValue("true") boolean fair,
+        @DefaultValue("1024") int stripes
+) {
+
+    public UserLockProperties {
+
+        if (strategy == null) {
+            throw new IllegalArgumentException("유저 락 방식은 필수입니다.");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("락 개수는 0보다 커야 합니다.");
+        }
+    }
+
+    public static UserLockProperties defaults() {
+        return new UserLockProperties(UserLockStrategyType.PER_USER, true, 1024);
+    }
+}
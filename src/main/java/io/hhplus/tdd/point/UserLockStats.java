@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 락 사용 현황
+ * - lockCount : 현재 보관 중인 락 개수
+ * - acquireCount : 락 획득 시도 횟수
+ * - contendedCount : 다른 스레드가 이미 락을 잡고 있어 기다려야 했던 횟수
+ */
+public record UserLockStats(
+        UserLockStrategyType strategy,
+        long lockCount,
+        long acquireCount,
+        long contendedCount
+) {
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 아이디에 대응하는 락을 제공하는 방식
+ * - getLock 으로 얻은 락은 lock/unlock 을 한 번씩 호출하는 방식으로 사용해야 한다.
+ */
+public interface UserLockStrategy {
+
+    ReentrantLock getLock(long userId);
+
+    /**
+     * 락을 기다리지 않고 잡아 반환한다. 다른 스레드가 잡고 있으면 null 을 반환하며, 반환된 락은 unlock 을 한 번 호출해야 한다.
+     */
+    default ReentrantLock tryLock(long userId) {
+        ReentrantLock lock = getLock(userId);
+        return lock.tryLock() ? lock : null;
+    }
+
+    UserLockStats stats();
+}
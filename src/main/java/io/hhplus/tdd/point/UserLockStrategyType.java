@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 락 관리 방식
+ * - PER_USER : 유저마다 락을 만들고 계속 보관
+ * - STRIPED : 고정된 개수의 락을 유저 아이디 해시로 나눠 사용
+ * - EVICTING : 유저마다 락을 만들고 사용 중인 스레드가 없으면 제거
+ */
+public enum UserLockStrategyType {
+    PER_USER, STRIPED, EVICTING
+}
@@ -45,4 +45,16 @@ public record UserPoint(
 
         return new UserPoint(id, point - amount, System.currentTimeMillis());
     }
+
+    public UserPoint apply(TransactionType type, long amount) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("트랜잭션 타입은 필수입니다.");
+        }
+
+        return switch (type) {
+            case CHARGE -> charge(amount);
+            case USE -> use(amount);
+        };
+    }
 }
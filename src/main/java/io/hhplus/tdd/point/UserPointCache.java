@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * 유저 포인트 조회용 캐시
+ * - 크기 초과 시 가장 오래 사용되지 않은 항목부터, 유지 시간이 지나면 조회 시점에 제거한다.
+ * - 충전/사용은 유저 락 안에서 put 으로 캐시를 갱신하고, 캐시 미스 시 적재도 유저 락 안에서 수행해
+ *   갱신 전 값이 갱신 후 값을 덮어쓰지 않도록 한다.
+ */
+@Component
+public class UserPointCache {
+
+    private final UserPointCacheProperties properties;
+    private final UserLockManager userLockManager;
+    private final Map<Long, CacheEntry> entries;
+    private final ReentrantLock entriesLock = new ReentrantLock();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public UserPointCache(UserPointCacheProperties properties, UserLockManager userLockManager) {
+        this.properties = properties;
+        this.userLockManager = userLockManager;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                if (size() > properties.maxSize()) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public UserPoint get(long userId, LongFunction<UserPoint> loader) {
+
+        UserPoint cached = find(userId);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+
+        ReentrantLock lock = userLockManager.getLock(userId);
+        lock.lock();
+        try {
+            cached = find(userId);
+            if (cached != null) {
+                return cached;
+            }
+            UserPoint loaded = loader.apply(userId);
+            put(loaded);
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출해야 캐시와 테이블의 값이 어긋나지 않는다.
+     */
+    public void put(UserPoint userPoint) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        long expireAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.ttlMillis());
+        entriesLock.lock();
+        try {
+            entries.put(userPoint.id(), new CacheEntry(userPoint, expireAt));
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public UserPointCacheStats stats() {
+        entriesLock.lock();
+        try {
+            return new UserPointCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private UserPoint find(long userId) {
+        entriesLock.lock();
+        try {
+            CacheEntry entry = entries.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt - System.nanoTime() <= 0) {
+                entries.remove(userId);
+                evictionCount.increment();
+                return null;
+            }
+            return entry.userPoint;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private record CacheEntry(UserPoint userPoint, long expireAt) {
+    }
+}
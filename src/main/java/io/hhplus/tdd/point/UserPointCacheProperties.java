@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 포인트 캐시 설정
+ * - enabled : 활성화 시 유저 포인트 조회가 캐시를 거쳐 테이블을 조회
+ * - maxSize : 캐시에 보관하는 최대 유저 수, 초과 시 가장 오래 사용되지 않은 유저부터 제거
+ * - ttlMillis : 캐시 항목이 유지되는 시간
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("60000") long ttlMillis
+) {
+
+    public UserPointCacheProperties {
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("캐시 유지 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public static UserPointCacheProperties disabled() {
+        return new UserPointCacheProperties(false, 10000, 60000L);
+    }
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point;
+
+public record UserPointCacheStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int size
+) {
+}
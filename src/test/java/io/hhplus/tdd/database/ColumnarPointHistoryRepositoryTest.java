@@ -0,0 +1,113 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarPointHistoryRepositoryTest {
+
+    private static final long ANY_AMOUNT = 1000L;
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    ColumnarPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void before() {
+        pointHistoryRepository = new ColumnarPointHistoryRepository();
+    }
+
+    @Nested
+    class 포인트_내역_저장 {
+
+        @Test
+        void 포인트_내역_정보를_전달했을_때_저장_순서대로_아이디를_부여한_포인트_내역을_반환() {
+
+            //when
+            PointHistory first = pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            PointHistory second = pointHistoryRepository.insert(2L, 500L, TransactionType.USE, 2L);
+
+            //then
+            assertThat(first).isEqualTo(new PointHistory(1L, 1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS));
+            assertThat(second).isEqualTo(new PointHistory(2L, 2L, 500L, TransactionType.USE, 2L));
+        }
+
+        @Test
+        void 여러_스레드에서_동시에_저장해도_모든_내역이_중복_없는_아이디로_저장() throws InterruptedException {
+
+            //given
+            int threadCount = 8;
+            int insertsPerThread = ColumnarPointHistoryRepository.CHUNK_SIZE / 2;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i;
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < insertsPerThread; j++) {
+                            pointHistoryRepository.insert(userId, ANY_AMOUNT, TransactionType.CHARGE, j);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            //then
+            assertThat(pointHistoryRepository.size()).isEqualTo(threadCount * insertsPerThread);
+            for (long userId = 0; userId < threadCount; userId++) {
+                List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+                assertThat(histories).hasSize(insertsPerThread);
+                assertThat(histories).extracting(PointHistory::updateMillis).isSorted();
+            }
+        }
+    }
+
+    @Nested
+    class 포인트_내역_전체_조회 {
+
+        @Test
+        void 특정_유저_아이디로_포인트_내역_목록_조회_시_여러_묶음에_걸친_해당_유저의_내역을_순서대로_반환() {
+
+            //given
+            int rows = ColumnarPointHistoryRepository.CHUNK_SIZE * 2 + 10;
+            for (int i = 0; i < rows; i++) {
+                pointHistoryRepository.insert(i % 1000, ANY_AMOUNT, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+            }
+
+            //when
+            List<PointHistory> result = pointHistoryRepository.selectAllByUserId(7L);
+
+            //then
+            assertThat(result).hasSize((rows - 7 + 999) / 1000);
+            assertThat(result.get(0)).isEqualTo(new PointHistory(8L, 7L, ANY_AMOUNT, TransactionType.USE, 7L));
+            assertThat(result).extracting(PointHistory::id).isSorted();
+            assertThat(result).allSatisfy(pointHistory -> assertThat(pointHistory.id()).isEqualTo(pointHistory.updateMillis() + 1));
+        }
+
+        @Test
+        void 특정_유저_아이디로_포인트_내역_목록_조회_시_해당_유저에_해당하는_값이_없을_때_빈_리스트_반환() {
+
+            //given
+            pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+
+            //when
+            List<PointHistory> result = pointHistoryRepository.selectAllByUserId(2L);
+
+            //then
+            assertThat(result).isEmpty();
+        }
+    }
+}
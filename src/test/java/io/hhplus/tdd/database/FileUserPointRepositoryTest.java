@@ -0,0 +1,77 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FileUserPointRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class 파일_다시_열기 {
+
+        @Test
+        void 저장소를_닫고_다시_열면_저장된_유저_포인트를_그대로_조회() {
+
+            //given
+            Path file = directory.resolve("balances.dat");
+            FileUserPointRepository before = new FileUserPointRepository(file, 4);
+            for (long id = 0; id < 1000; id++) {
+                before.insertOrUpdate(id * 7, id);
+            }
+            before.close();
+
+            //when
+            FileUserPointRepository result = new FileUserPointRepository(file, 4);
+
+            //then
+            assertThat(result.size()).isEqualTo(1000);
+            for (long id = 0; id < 1000; id++) {
+                assertThat(result.selectById(id * 7).point()).isEqualTo(id);
+            }
+            assertThat(result.selectById(3L).point()).isZero();
+            result.close();
+        }
+
+        @Test
+        void 크기를_늘린_뒤에는_늘어난_파일만_남음() throws IOException {
+
+            //given
+            Path file = directory.resolve("balances.dat");
+            FileUserPointRepository userPointRepository = new FileUserPointRepository(file, 4);
+
+            //when
+            for (long id = 0; id < 100; id++) {
+                userPointRepository.insertOrUpdate(id, 100L);
+            }
+            userPointRepository.close();
+
+            //then
+            assertThat(Files.size(file)).isEqualTo(256L * OffHeapUserPointRepository.SLOT_BYTES);
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files).containsExactly(file);
+            }
+        }
+
+        @Test
+        void 파일_크기가_슬롯_크기와_맞지_않으면_IllegalStateException_발생() throws IOException {
+
+            //given
+            Path file = directory.resolve("balances.dat");
+            Files.write(file, new byte[100]);
+
+            //when //then
+            assertThatThrownBy(() -> new FileUserPointRepository(file, 4))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
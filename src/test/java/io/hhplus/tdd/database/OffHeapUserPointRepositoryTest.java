@@ -0,0 +1,124 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OffHeapUserPointRepositoryTest {
+
+    OffHeapUserPointRepository userPointRepository;
+
+    @BeforeEach
+    void before() {
+        userPointRepository = new OffHeapUserPointRepository(16);
+    }
+
+    @Nested
+    class 유저_포인트_조회 {
+
+        @Test
+        void 저장된_적_없는_유저_아이디로_조회_시_포인트가_0인_유저_포인트_반환() {
+
+            //when
+            UserPoint result = userPointRepository.selectById(1L);
+
+            //then
+            assertThat(result.id()).isEqualTo(1L);
+            assertThat(result.point()).isZero();
+        }
+
+        @Test
+        void 저장된_유저_아이디로_조회_시_저장된_포인트와_수정_시간_반환() {
+
+            //given
+            UserPoint saved = userPointRepository.insertOrUpdate(0L, 1000L);
+            userPointRepository.insertOrUpdate(Long.MAX_VALUE, 2000L);
+
+            //when
+            UserPoint result = userPointRepository.selectById(0L);
+
+            //then
+            assertThat(result).isEqualTo(saved);
+            assertThat(userPointRepository.selectById(Long.MAX_VALUE).point()).isEqualTo(2000L);
+        }
+    }
+
+    @Nested
+    class 유저_포인트_저장 {
+
+        @Test
+        void 이미_저장된_유저의_포인트를_저장하면_기존_값을_덮어씀() {
+
+            //given
+            userPointRepository.insertOrUpdate(1L, 1000L);
+
+            //when
+            UserPoint result = userPointRepository.insertOrUpdate(1L, 500L);
+
+            //then
+            assertThat(userPointRepository.selectById(1L)).isEqualTo(result);
+            assertThat(userPointRepository.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 초기_크기보다_많은_유저를_저장해도_모든_유저의_포인트를_조회() {
+
+            //when
+            for (long id = 0; id < 10000; id++) {
+                userPointRepository.insertOrUpdate(id * 31, id);
+            }
+
+            //then
+            assertThat(userPointRepository.size()).isEqualTo(10000);
+            for (long id = 0; id < 10000; id++) {
+                assertThat(userPointRepository.selectById(id * 31).point()).isEqualTo(id);
+            }
+        }
+
+        @Test
+        void 음수_포인트를_저장하면_IllegalArgumentException_발생() {
+
+            //when //then
+            assertThatThrownBy(() -> userPointRepository.insertOrUpdate(1L, -1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(userPointRepository.size()).isZero();
+        }
+
+        @Test
+        void 여러_스레드에서_서로_다른_유저를_동시에_저장해도_모든_유저가_저장() throws InterruptedException {
+
+            //given
+            int threadCount = 8;
+            int usersPerThread = 5000;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                long base = (long) i * usersPerThread;
+                executorService.submit(() -> {
+                    try {
+                        for (long id = base; id < base + usersPerThread; id++) {
+                            userPointRepository.insertOrUpdate(id, 100L);
+                            userPointRepository.selectById(id);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            //then
+            assertThat(userPointRepository.size()).isEqualTo(threadCount * usersPerThread);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShardedPointHistoryRepositoryTest {
+
+    private static final long ANY_AMOUNT = 1000L;
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    List<ColumnarPointHistoryRepository> shards;
+    ShardedPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void before() {
+        shards = List.of(new ColumnarPointHistoryRepository(), new ColumnarPointHistoryRepository(), new ColumnarPointHistoryRepository());
+        pointHistoryRepository = new ShardedPointHistoryRepository(shards);
+    }
+
+    @Nested
+    class 포인트_내역_저장 {
+
+        @Test
+        void 유저_아이디를_샤드_수로_나눈_나머지_샤드에_저장() {
+
+            //when
+            pointHistoryRepository.insert(4L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+
+            //then
+            assertThat(shards.get(1).selectAllByUserId(4L)).hasSize(1);
+            assertThat(shards.get(0).selectAllByUserId(4L)).isEmpty();
+            assertThat(shards.get(2).selectAllByUserId(4L)).isEmpty();
+        }
+
+        @Test
+        void 샤드가_달라도_아이디가_겹치지_않고_같은_유저_안에서는_저장_순서대로_증가() {
+
+            //when
+            PointHistory first = pointHistoryRepository.insert(0L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            PointHistory second = pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            PointHistory third = pointHistoryRepository.insert(2L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            PointHistory fourth = pointHistoryRepository.insert(0L, 500L, TransactionType.USE, ANY_UPDATE_MILLIS);
+
+            //then
+            assertThat(List.of(first, second, third, fourth))
+                    .extracting(PointHistory::id)
+                    .containsExactly(1L, 2L, 3L, 4L);
+            assertThat(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS).id()).isEqualTo(5L);
+        }
+    }
+
+    @Nested
+    class 유저_포인트_내역_조회 {
+
+        @Test
+        void 조회한_내역의_아이디는_저장_시_반환된_아이디와_같음() {
+
+            //given
+            PointHistory first = pointHistoryRepository.insert(2L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            pointHistoryRepository.insert(5L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            PointHistory second = pointHistoryRepository.insert(2L, 500L, TransactionType.USE, ANY_UPDATE_MILLIS);
+
+            //when
+            List<PointHistory> result = pointHistoryRepository.selectAllByUserId(2L);
+
+            //then
+            assertThat(result).containsExactly(first, second);
+        }
+    }
+
+    @Test
+    void 샤드가_없으면_IllegalArgumentException_발생() {
+
+        //when //then
+        assertThatThrownBy(() -> new ShardedPointHistoryRepository(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
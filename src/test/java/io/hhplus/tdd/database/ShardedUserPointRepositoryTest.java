@@ -0,0 +1,69 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShardedUserPointRepositoryTest {
+
+    List<OffHeapUserPointRepository> shards;
+    ShardedUserPointRepository userPointRepository;
+
+    @BeforeEach
+    void before() {
+        shards = List.of(new OffHeapUserPointRepository(16), new OffHeapUserPointRepository(16));
+        userPointRepository = new ShardedUserPointRepository(shards);
+    }
+
+    @Nested
+    class 유저_포인트_저장_조회 {
+
+        @Test
+        void 유저_아이디를_샤드_수로_나눈_나머지_샤드에_저장하고_같은_샤드에서_조회() {
+
+            //when
+            UserPoint saved = userPointRepository.insertOrUpdate(3L, 1000L);
+
+            //then
+            assertThat(userPointRepository.selectById(3L)).isEqualTo(saved);
+            assertThat(shards.get(1).selectById(3L)).isEqualTo(saved);
+            assertThat(shards.get(0).selectById(3L).point()).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    class 저장소_종료 {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        void 종료_시_파일_샤드를_모두_닫아_다시_열었을_때_잔고_유지() throws Exception {
+
+            //given
+            ShardedUserPointRepository fileRepository = new ShardedUserPointRepository(List.of(
+                    new FileUserPointRepository(directory.resolve("balances.dat-0"), 16),
+                    new FileUserPointRepository(directory.resolve("balances.dat-1"), 16)
+            ));
+            fileRepository.insertOrUpdate(1L, 1000L);
+            fileRepository.insertOrUpdate(2L, 2000L);
+
+            //when
+            fileRepository.close();
+            FileUserPointRepository reopened = new FileUserPointRepository(directory.resolve("balances.dat-1"), 16);
+
+            //then
+            assertThat(reopened.selectById(1L).point()).isEqualTo(1000L);
+            assertThat(Files.exists(directory.resolve("balances.dat-0"))).isTrue();
+            reopened.close();
+        }
+    }
+}
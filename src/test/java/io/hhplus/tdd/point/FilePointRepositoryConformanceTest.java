@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.FileUserPointRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+class FilePointRepositoryConformanceTest extends PointRepositoryConformanceTest {
+
+    @TempDir
+    Path directory;
+
+    @Override
+    UserPointRepository createUserPointRepository() {
+        return new FileUserPointRepository(directory.resolve("balances.dat"), 16);
+    }
+
+    @Override
+    PointHistoryRepository createPointHistoryRepository() {
+        return new ColumnarPointHistoryRepository();
+    }
+
+    @AfterEach
+    void after() {
+        ((FileUserPointRepository) userPointRepository).close();
+    }
+}
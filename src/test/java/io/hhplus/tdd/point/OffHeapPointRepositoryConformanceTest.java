@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.OffHeapUserPointRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+
+class OffHeapPointRepositoryConformanceTest extends PointRepositoryConformanceTest {
+
+    @Override
+    UserPointRepository createUserPointRepository() {
+        return new OffHeapUserPointRepository(16);
+    }
+
+    @Override
+    PointHistoryRepository createPointHistoryRepository() {
+        return new ColumnarPointHistoryRepository();
+    }
+}
@@ -0,0 +1,199 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptimisticPointCommitterTest {
+
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
+    UserPointCache userPointCache;
+    OptimisticPointCommitter optimisticPointCommitter;
+    CountDownLatch persistGate = new CountDownLatch(0);
+    AtomicInteger failingWrites = new AtomicInteger();
+
+    @BeforeEach
+    void before() {
+        userPointRepository = new UserPointTableRepository(new UserPointTable());
+        pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+        UserPointRepository table = userPointRepository;
+        UserPointRepository gatedRepository = new UserPointRepository() {
+            @Override
+            public UserPoint selectById(long id) {
+                return table.selectById(id);
+            }
+
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                try {
+                    persistGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failingWrites.getAndDecrement() > 0) {
+                    throw new RuntimeException("유저 포인트 저장 실패");
+                }
+                return table.insertOrUpdate(id, amount);
+            }
+        };
+        PointServiceFixture fixture = PointServiceFixture.builder()
+                .userPointRepository(gatedRepository)
+                .pointHistoryRepository(pointHistoryRepository)
+                .userPointCache(new UserPointCacheProperties(true, 100, 60000L))
+                .optimistic(new OptimisticPointProperties(true, 2, 1000, 2))
+                .build();
+        userPointCache = fixture.userPointCache();
+        optimisticPointCommitter = fixture.optimisticPointCommitter();
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        persistGate.countDown();
+        optimisticPointCommitter.shutdown();
+    }
+
+    @Nested
+    class 낙관적_포인트_반영 {
+
+        @Test
+        void 포인트_충전_시_테이블_저장_전이라도_메모리_잔고에_바로_반영() {
+
+            //given
+            userPointRepository.insertOrUpdate(1L, 1000L);
+            persistGate = new CountDownLatch(1);
+
+            //when
+            UserPoint result = optimisticPointCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //then
+            assertThat(result.point()).isEqualTo(2000L);
+            assertThat(optimisticPointCommitter.getBalance(1L)).isEqualTo(result);
+        }
+
+        @Test
+        void 잔고를_초과하는_사용_요청은_예외가_발생하고_잔고가_변하지_않음() {
+
+            //given
+            persistGate = new CountDownLatch(1);
+            optimisticPointCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //when, then
+            assertThatThrownBy(() -> optimisticPointCommitter.commit(1L, 1001L, TransactionType.USE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("사용 가능한 금액을 초과하였습니다.");
+            assertThat(optimisticPointCommitter.getBalance(1L).point()).isEqualTo(1000L);
+        }
+
+        @Test
+        void 특정_유저_충전과_사용_요청이_동시에_들어왔을_때_반영_순서대로_테이블에_저장() throws InterruptedException {
+
+            //given
+            optimisticPointCommitter.commit(1L, 20000L, TransactionType.CHARGE);
+
+            int threadCount = 40;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                executorService.execute(() -> {
+                    optimisticPointCommitter.commit(1L, 1000L, type);
+                    countDownLatch.countDown();
+                });
+            }
+
+            countDownLatch.await();
+            optimisticPointCommitter.flush(TimeUnit.SECONDS.toMillis(60));
+
+            //then
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+            assertThat(histories).hasSize(threadCount + 1);
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(20000L);
+            assertThat(optimisticPointCommitter.pendingCount(1L)).isEqualTo(0L);
+
+            long balance = 0;
+            for (PointHistory history : histories) {
+                balance += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+                assertThat(balance).isGreaterThanOrEqualTo(0L);
+            }
+        }
+
+        @Test
+        void 테이블_저장에_실패한_변경은_저장된_것으로_처리하지_않고_다시_저장() throws InterruptedException {
+
+            //given
+            failingWrites.set(2);
+
+            //when
+            optimisticPointCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+            optimisticPointCommitter.commit(1L, 500L, TransactionType.USE);
+            boolean flushed = optimisticPointCommitter.flush(TimeUnit.SECONDS.toMillis(10));
+
+            //then
+            assertThat(flushed).isTrue();
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(500L);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(2);
+        }
+
+        @Test
+        void 모든_변경이_저장된_유저의_상태는_제거하고_이후_요청은_테이블_잔고에서_이어서_반영() throws InterruptedException {
+
+            //given
+            optimisticPointCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+            optimisticPointCommitter.flush(TimeUnit.SECONDS.toMillis(10));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (optimisticPointCommitter.activeUserCount() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            int activeUserCount = optimisticPointCommitter.activeUserCount();
+
+            //when
+            UserPoint result = optimisticPointCommitter.commit(1L, 300L, TransactionType.USE);
+
+            //then
+            assertThat(activeUserCount).isZero();
+            assertThat(result.point()).isEqualTo(700L);
+            assertThat(optimisticPointCommitter.flush(TimeUnit.SECONDS.toMillis(10))).isTrue();
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(700L);
+        }
+
+        @Test
+        void 상태를_제거하기_전에_캐시를_저장된_최신_잔고로_갱신() throws InterruptedException {
+
+            //given
+            userPointCache.put(new UserPoint(1L, 0L, 0L));
+            optimisticPointCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //when
+            optimisticPointCommitter.flush(TimeUnit.SECONDS.toMillis(10));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (optimisticPointCommitter.activeUserCount() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            //then
+            assertThat(optimisticPointCommitter.getBalance(1L)).isNull();
+            assertThat(userPointCache.get(1L, userPointRepository::selectById).point()).isEqualTo(1000L);
+        }
+    }
+}
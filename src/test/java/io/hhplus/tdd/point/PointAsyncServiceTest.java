@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointAsyncServiceTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @Mock
+    PointService pointService;
+    PointAsyncService pointAsyncService;
+
+    @AfterEach
+    void after() throws InterruptedException {
+        pointAsyncService.shutdown();
+    }
+
+    @Nested
+    class 비동기_충전_사용 {
+
+        @Test
+        void 같은_유저의_충전_사용은_앞선_작업이_끝난_뒤_요청_순서대로_처리() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(4, 100));
+            CountDownLatch release = new CountDownLatch(1);
+            when(pointService.charge(1L, 1000L)).thenAnswer(invocation -> {
+                release.await();
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            });
+            when(pointService.use(1L, 300L)).thenReturn(new UserPoint(1L, 700L, ANY_UPDATE_MILLIS));
+
+            //when
+            CompletableFuture<UserPoint> charged = pointAsyncService.charge(1L, 1000L);
+            CompletableFuture<UserPoint> used = pointAsyncService.use(1L, 300L);
+            Thread.sleep(100L);
+            boolean usedBeforeRelease = used.isDone();
+            release.countDown();
+
+            //then
+            assertThat(usedBeforeRelease).isFalse();
+            assertThat(charged.get(5, TimeUnit.SECONDS)).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            assertThat(used.get(5, TimeUnit.SECONDS)).isEqualTo(new UserPoint(1L, 700L, ANY_UPDATE_MILLIS));
+            InOrder inOrder = inOrder(pointService);
+            inOrder.verify(pointService).charge(1L, 1000L);
+            inOrder.verify(pointService).use(1L, 300L);
+        }
+
+        @Test
+        void 다른_유저의_작업은_앞선_유저의_작업을_기다리지_않고_처리() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(4, 100));
+            CountDownLatch release = new CountDownLatch(1);
+            when(pointService.charge(1L, 1000L)).thenAnswer(invocation -> {
+                release.await();
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            });
+            when(pointService.charge(2L, 1000L)).thenReturn(new UserPoint(2L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            CompletableFuture<UserPoint> blocked = pointAsyncService.charge(1L, 1000L);
+            UserPoint result = pointAsyncService.charge(2L, 1000L).get(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(2L, 1000L, ANY_UPDATE_MILLIS));
+            assertThat(blocked.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+        }
+
+        @Test
+        void 앞선_작업이_실패해도_다음_작업은_처리되고_실패한_작업의_future_에는_예외_전달() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(4, 100));
+            when(pointService.use(1L, 1000L)).thenThrow(new IllegalArgumentException("포인트가 부족합니다."));
+            when(pointService.charge(1L, 1000L)).thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            CompletableFuture<UserPoint> used = pointAsyncService.use(1L, 1000L);
+            CompletableFuture<UserPoint> charged = pointAsyncService.charge(1L, 1000L);
+
+            //then
+            assertThat(charged.get(5, TimeUnit.SECONDS)).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            assertThatThrownBy(used::join)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 대기_요청이_최대_수를_넘으면_PointUnavailableException_으로_완료() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(1, 1));
+            CountDownLatch release = new CountDownLatch(1);
+            when(pointService.charge(1L, 1000L)).thenAnswer(invocation -> {
+                release.await();
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            });
+
+            //when
+            CompletableFuture<UserPoint> accepted = pointAsyncService.charge(1L, 1000L);
+            CompletableFuture<UserPoint> rejected = pointAsyncService.charge(2L, 1000L);
+            release.countDown();
+
+            //then
+            assertThatThrownBy(rejected::join)
+                    .hasCauseInstanceOf(PointUnavailableException.class);
+            assertThat(accepted.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+            verify(pointService, never()).charge(2L, 1000L);
+        }
+
+        @Test
+        void 종료되어_스레드_풀이_받지_않은_작업은_PointUnavailableException_으로_완료() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(1, 100));
+            CountDownLatch release = new CountDownLatch(1);
+            when(pointService.charge(1L, 1000L)).thenAnswer(invocation -> {
+                release.await();
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            });
+            CompletableFuture<UserPoint> charged = pointAsyncService.charge(1L, 1000L);
+            CompletableFuture<UserPoint> used = pointAsyncService.use(1L, 300L);
+
+            //when
+            Thread shutdown = new Thread(() -> {
+                try {
+                    pointAsyncService.shutdown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            shutdown.start();
+            Thread.sleep(100L);
+            release.countDown();
+            shutdown.join();
+
+            //then
+            assertThat(charged.get(5, TimeUnit.SECONDS).point()).isEqualTo(1000L);
+            assertThatThrownBy(() -> used.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(PointUnavailableException.class);
+            assertThatThrownBy(() -> pointAsyncService.charge(1L, 1000L).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(PointUnavailableException.class);
+            verify(pointService, never()).use(1L, 300L);
+        }
+    }
+
+    @Nested
+    class 비동기_조회 {
+
+        @Test
+        void 유저_포인트_조회_결과를_future_로_반환() throws Exception {
+
+            //given
+            pointAsyncService = new PointAsyncService(pointService, PointAsyncProperties.defaults());
+            when(pointService.getUserPointById(1L)).thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            UserPoint result = pointAsyncService.getUserPointById(1L).get(5, TimeUnit.SECONDS);
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointBatchCommitterTest {
+
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
+    MeterRegistry meterRegistry;
+    PointBatchCommitter pointBatchCommitter;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void before() {
+        userPointRepository = new UserPointTableRepository(new UserPointTable());
+        pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+        meterRegistry = new SimpleMeterRegistry();
+        pointBatchCommitter = PointServiceFixture.builder()
+                .userPointRepository(userPointRepository)
+                .pointHistoryRepository(pointHistoryRepository)
+                .meterRegistry(meterRegistry)
+                .batch(new PointBatchProperties(true, 100))
+                .build()
+                .pointBatchCommitter();
+    }
+
+    @Nested
+    class 묶음_처리 {
+
+        @Test
+        void 포인트_충전_요청_시_충전된_유저_포인트_반환과_함께_포인트_내역_저장() {
+
+            //given
+            userPointRepository.insertOrUpdate(1L, 1000L);
+
+            //when
+            UserPoint result = pointBatchCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 2000L, result.updateMillis()));
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(2000L);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(1);
+        }
+
+        @Test
+        void 로그를_남기면_포인트_내역과_응답에_로그와_같은_updateMillis_사용() throws InterruptedException {
+
+            //given
+            UserPointRepository fixedMillisRepository = new UserPointRepository() {
+                @Override
+                public UserPoint selectById(long id) {
+                    return userPointRepository.selectById(id);
+                }
+
+                @Override
+                public UserPoint insertOrUpdate(long id, long amount) {
+                    userPointRepository.insertOrUpdate(id, amount);
+                    return new UserPoint(id, amount, 1L);
+                }
+            };
+            PointServiceFixture fixture = PointServiceFixture.builder()
+                    .userPointRepository(fixedMillisRepository)
+                    .pointHistoryRepository(pointHistoryRepository)
+                    .pointWal(new PointWalProperties(true, directory.toString(), 1 << 20, PointWalFsyncMode.PER_OP, 100L))
+                    .batch(new PointBatchProperties(true, 100))
+                    .build();
+
+            //when
+            UserPoint charged = fixture.pointBatchCommitter().commit(1L, 1000L, TransactionType.CHARGE);
+            UserPoint used = fixture.pointBatchCommitter().commit(1L, 300L, TransactionType.USE);
+
+            //then
+            List<Long> loggedMillis = new ArrayList<>();
+            fixture.pointWriteAheadLog().replay(0L, record -> loggedMillis.add(record.updateMillis()));
+            assertThat(pointHistoryRepository.selectAllByUserId(1L))
+                    .extracting(PointHistory::updateMillis)
+                    .containsExactlyElementsOf(loggedMillis);
+            assertThat(List.of(charged.updateMillis(), used.updateMillis())).isEqualTo(loggedMillis);
+            fixture.shutdown();
+        }
+
+        @Test
+        void 묶음_처리도_락_대기_보유_시간과_테이블_호출_시간을_기록() {
+
+            //when
+            pointBatchCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //then
+            assertThat(meterRegistry.get("point.lock.wait").tag("type", "CHARGE").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.lock.hold").tag("type", "CHARGE").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "selectById").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "insertOrUpdate").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "historyInsert").timer().count()).isEqualTo(1L);
+        }
+
+        @Test
+        void 잔고를_초과하는_사용_요청은_해당_요청만_실패하고_포인트_내역이_저장되지_않음() {
+
+            //given
+            userPointRepository.insertOrUpdate(1L, 1000L);
+
+            //when, then
+            assertThatThrownBy(() -> pointBatchCommitter.commit(1L, 1001L, TransactionType.USE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("사용 가능한 금액을 초과하였습니다.");
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(1000L);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEmpty();
+        }
+
+        @Test
+        void 특정_유저_충전_요청이_동시에_들어왔을_때_최대_한도를_넘는_요청만_실패() throws InterruptedException {
+
+            //given
+            int threadCount = 30;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+            AtomicInteger failCount = new AtomicInteger();
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        pointBatchCommitter.commit(1L, 10000L, TransactionType.CHARGE);
+                    } catch (IllegalArgumentException e) {
+                        failCount.incrementAndGet();
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+
+            countDownLatch.await();
+
+            //then
+            assertThat(failCount.get()).isEqualTo(10);
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(200000L);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(20);
+        }
+    }
+}
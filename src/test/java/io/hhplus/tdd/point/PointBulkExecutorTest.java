@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBulkExecutorTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @Mock
+    PointService pointService;
+    PointBulkExecutor pointBulkExecutor;
+
+    @BeforeEach
+    void before() {
+        pointBulkExecutor = new PointBulkExecutor(pointService, new PointBulkProperties(3, 4));
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        pointBulkExecutor.shutdown();
+    }
+
+    @Nested
+    class 일괄_작업_처리 {
+
+        @Test
+        void 같은_유저의_작업은_요청_순서대로_처리() {
+
+            //given
+            when(pointService.charge(1L, 1000L)).thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            when(pointService.use(1L, 300L)).thenReturn(new UserPoint(1L, 700L, ANY_UPDATE_MILLIS));
+            when(pointService.charge(1L, 100L)).thenReturn(new UserPoint(1L, 800L, ANY_UPDATE_MILLIS));
+
+            //when
+            List<PointOperationResult> results = pointBulkExecutor.execute(List.of(
+                    new PointOperation(1L, 1000L, TransactionType.CHARGE),
+                    new PointOperation(1L, 300L, TransactionType.USE),
+                    new PointOperation(1L, 100L, TransactionType.CHARGE)
+            ));
+
+            //then
+            InOrder inOrder = inOrder(pointService);
+            inOrder.verify(pointService).charge(1L, 1000L);
+            inOrder.verify(pointService).use(1L, 300L);
+            inOrder.verify(pointService).charge(1L, 100L);
+            assertThat(results).extracting(PointOperationResult::userPoint)
+                    .containsExactly(
+                            new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS),
+                            new UserPoint(1L, 700L, ANY_UPDATE_MILLIS),
+                            new UserPoint(1L, 800L, ANY_UPDATE_MILLIS)
+                    );
+        }
+
+        @Test
+        void 실패한_작업은_결과에_실패_사유를_담고_나머지_작업은_계속_처리() {
+
+            //given
+            when(pointService.use(1L, 1000L)).thenThrow(new IllegalArgumentException("사용 가능한 금액을 초과하였습니다."));
+            when(pointService.charge(2L, 500L)).thenReturn(new UserPoint(2L, 500L, ANY_UPDATE_MILLIS));
+
+            //when
+            List<PointOperationResult> results = pointBulkExecutor.execute(List.of(
+                    new PointOperation(1L, 1000L, TransactionType.USE),
+                    new PointOperation(2L, 500L, TransactionType.CHARGE),
+                    new PointOperation(3L, 500L, null)
+            ));
+
+            //then
+            assertThat(results.get(0).error()).isEqualTo(new ErrorResponse("400", "사용 가능한 금액을 초과하였습니다."));
+            assertThat(results.get(1).userPoint()).isEqualTo(new UserPoint(2L, 500L, ANY_UPDATE_MILLIS));
+            assertThat(results.get(2).error()).isEqualTo(new ErrorResponse("400", "트랜잭션 타입은 필수입니다."));
+        }
+
+        @Test
+        void 처리_불가_예외는_503_실패_사유로_반환() {
+
+            //given
+            when(pointService.charge(1L, 1000L)).thenThrow(new PointUnavailableException("포인트 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+
+            //when
+            List<PointOperationResult> results = pointBulkExecutor.execute(List.of(
+                    new PointOperation(1L, 1000L, TransactionType.CHARGE)
+            ));
+
+            //then
+            assertThat(results.get(0).isSuccess()).isFalse();
+            assertThat(results.get(0).error().code()).isEqualTo("503");
+        }
+
+        @Test
+        void 작업이_비어_있는_경우_예외_발생() {
+
+            //when, then
+            assertThatThrownBy(() -> pointBulkExecutor.execute(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("일괄 작업은 1개 이상이어야 합니다.");
+        }
+
+        @Test
+        void 작업_수가_최대치를_넘는_경우_예외_발생() {
+
+            //given
+            List<PointOperation> operations = new ArrayList<>();
+            for (long userId = 1; userId <= 4; userId++) {
+                operations.add(new PointOperation(userId, 100L, TransactionType.CHARGE));
+            }
+
+            //when, then
+            assertThatThrownBy(() -> pointBulkExecutor.execute(operations))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("일괄 작업은 3개 이하여야 합니다.");
+            verifyNoInteractions(pointService);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * localhost 에 노드 두 개를 띄워 클러스터 모드를 확인한다.
+ * 노드 A 에 보낸 요청 중 노드 B 가 담당하는 유저의 요청은 노드 B 에서 처리되어야 한다.
+ */
+class PointClusterIntegrationTest {
+
+    @TempDir
+    Path directory;
+
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    String nodeA;
+    String nodeB;
+    List<String> nodes;
+
+    @BeforeEach
+    void before() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = "http://localhost:" + portA;
+        nodeB = "http://localhost:" + portB;
+        nodes = List.of(nodeA, nodeB);
+        contexts.add(start(portA, nodeA));
+        contexts.add(start(portB, nodeB));
+    }
+
+    @AfterEach
+    void after() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Nested
+    class 요청_전달 {
+
+        @Test
+        void 다른_노드가_담당하는_유저의_충전_요청은_담당_노드에서_처리() throws Exception {
+
+            //given
+            long userId = userOwnedBy(nodeB);
+
+            //when
+            HttpResponse<String> charged = send(nodeA, "PATCH", "/point/" + userId + "/charge", "1000");
+
+            //then
+            assertThat(charged.statusCode()).isEqualTo(200);
+            assertThat(contexts.get(1).getBean(PointService.class).getUserPointById(userId).point()).isEqualTo(1000L);
+            assertThat(contexts.get(0).getBean(PointService.class).getUserPointById(userId).point()).isEqualTo(0L);
+            assertThat(send(nodeA, "GET", "/point/" + userId + "/histories", null).body()).contains("\"amount\":1000");
+        }
+
+        @Test
+        void 담당_노드가_실패를_응답하면_상태와_본문을_그대로_반환() throws Exception {
+
+            //given
+            long userId = userOwnedBy(nodeB);
+
+            //when
+            HttpResponse<String> used = send(nodeA, "PATCH", "/point/" + userId + "/use", "1000");
+
+            //then
+            assertThat(used.statusCode()).isEqualTo(400);
+            assertThat(used.body()).contains("\"code\":\"400\"");
+        }
+
+        @Test
+        void 담당_노드에_연결할_수_없으면_503_반환() throws Exception {
+
+            //given
+            long userId = userOwnedBy(nodeB);
+            contexts.remove(1).close();
+
+            //when
+            HttpResponse<String> response = send(nodeA, "GET", "/point/" + userId, null);
+
+            //then
+            assertThat(response.statusCode()).isEqualTo(503);
+            assertThat(response.body()).contains("\"code\":\"503\"");
+        }
+
+        @Test
+        void 다른_노드에서_전달된_요청이라도_담당하지_않는_유저면_처리하지_않고_421_반환() throws Exception {
+
+            //given
+            long userId = userOwnedBy(nodeB);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(nodeA + "/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .header(PointClusterForwardingFilter.FORWARDED_BY_HEADER, nodeB)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("1000"))
+                    .build();
+
+            //when
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            //then
+            assertThat(response.statusCode()).isEqualTo(421);
+            assertThat(response.body()).contains("\"code\":\"421\"");
+            assertThat(contexts.get(0).getBean(PointService.class).getUserPointById(userId).point()).isEqualTo(0L);
+            assertThat(contexts.get(1).getBean(PointService.class).getUserPointById(userId).point()).isEqualTo(0L);
+        }
+
+        @Test
+        void 여러_유저를_다루는_요청에_다른_노드가_담당하는_유저가_있으면_400_반환() throws Exception {
+
+            //given
+            long local = userOwnedBy(nodeA);
+            long remote = userOwnedBy(nodeB);
+
+            //when
+            HttpResponse<String> response = send(nodeA, "POST", "/point/batch-get", "[" + local + "," + remote + "]");
+
+            //then
+            assertThat(response.statusCode()).isEqualTo(400);
+        }
+    }
+
+    private long userOwnedBy(String node) {
+        PointClusterRing ring = new PointClusterRing(nodes, 128);
+        return LongStream.range(1, 1000)
+                .filter(userId -> ring.ownerOf(userId).equals(node))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private HttpResponse<String> send(String node, String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private ConfigurableApplicationContext start(int port, String self) {
+        return new SpringApplicationBuilder(TddApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        "point.cluster.enabled=true",
+                        "point.cluster.self=" + self,
+                        "point.cluster.nodes=" + String.join(",", nodes),
+                        "point.cluster.forward-timeout-millis=1000",
+                        "point.cluster.state-directory=" + directory
+                )
+                .run();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
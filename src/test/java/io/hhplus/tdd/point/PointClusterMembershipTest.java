@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointBalanceStoreProperties;
+import io.hhplus.tdd.database.PointBalanceStoreType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointClusterMembershipTest {
+
+    private static final String SELF = "http://localhost:8081";
+    private static final List<String> NODES = List.of("http://localhost:8081", "http://localhost:8082");
+    private static final List<String> ADDED = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class 노드_목록_확인 {
+
+        @Test
+        void 처음_시작하거나_같은_노드_목록으로_다시_시작하면_그대로_시작() {
+
+            //given
+            create(NODES, PointBalanceStoreType.TABLE, false).verify();
+
+            //when //then
+            assertThatCode(() -> create(NODES.reversed(), PointBalanceStoreType.TABLE, false).verify())
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        void 재시작_후_남지_않는_저장소에서_노드_목록이_바뀌면_IllegalStateException_발생() {
+
+            //given
+            create(NODES, PointBalanceStoreType.TABLE, false).verify();
+
+            //when //then
+            assertThatThrownBy(() -> create(ADDED, PointBalanceStoreType.TABLE, false).verify())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("노드 목록이 바뀌었지만");
+        }
+
+        @Test
+        void 노드_목록이_바뀌어도_file_저장소나_포인트_로그를_사용하면_시작() {
+
+            //given
+            create(NODES, PointBalanceStoreType.FILE, false).verify();
+
+            //when //then
+            assertThatCode(() -> create(ADDED, PointBalanceStoreType.FILE, false).verify())
+                    .doesNotThrowAnyException();
+            assertThatCode(() -> create(NODES, PointBalanceStoreType.TABLE, true).verify())
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        void 시작을_거부하면_기록을_바꾸지_않아_다시_시작해도_거부() {
+
+            //given
+            create(NODES, PointBalanceStoreType.TABLE, false).verify();
+            assertThatThrownBy(() -> create(ADDED, PointBalanceStoreType.TABLE, false).verify())
+                    .isInstanceOf(IllegalStateException.class);
+
+            //when //then
+            assertThatThrownBy(() -> create(ADDED, PointBalanceStoreType.TABLE, false).verify())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> create(NODES, PointBalanceStoreType.TABLE, false).verify())
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    private PointClusterMembership create(List<String> nodes, PointBalanceStoreType balanceStoreType, boolean walEnabled) {
+        return new PointClusterMembership(
+                new PointClusterProperties(true, SELF, nodes, 128, 3000L, directory.toString()),
+                new PointBalanceStoreProperties(balanceStoreType, 65536, directory.resolve("balances.dat").toString()),
+                new PointWalProperties(walEnabled, directory.resolve("wal").toString(), 67108864L, PointWalFsyncMode.BATCH, 100L)
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointClusterRingTest {
+
+    private static final List<String> NODES = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+    private static final int USER_COUNT = 10000;
+
+    @Nested
+    class 담당_노드_조회 {
+
+        @Test
+        void 같은_노드_목록이면_노드_순서와_상관없이_같은_유저의_담당_노드가_같음() {
+
+            //given
+            PointClusterRing ring = new PointClusterRing(NODES, 128);
+            PointClusterRing reversed = new PointClusterRing(NODES.reversed(), 128);
+
+            //when //then
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                assertThat(reversed.ownerOf(userId)).isEqualTo(ring.ownerOf(userId));
+            }
+        }
+
+        @Test
+        void 유저가_모든_노드에_고르게_나뉨() {
+
+            //given
+            PointClusterRing ring = new PointClusterRing(NODES, 128);
+
+            //when
+            Map<String, Integer> counts = new HashMap<>();
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+            }
+
+            //then
+            assertThat(counts).containsOnlyKeys(NODES);
+            assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(USER_COUNT / 5, USER_COUNT / 2));
+        }
+
+        @Test
+        void 노드가_없으면_IllegalArgumentException_발생() {
+
+            //when //then
+            assertThatThrownBy(() -> new PointClusterRing(List.of(), 128))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 노드_추가 {
+
+        @Test
+        void 노드가_추가되면_일부_유저만_새_노드로_옮겨가고_나머지_유저의_담당_노드는_유지() {
+
+            //given
+            String added = "http://localhost:8084";
+            PointClusterRing before = new PointClusterRing(NODES, 128);
+            PointClusterRing after = new PointClusterRing(List.of(NODES.get(0), NODES.get(1), NODES.get(2), added), 128);
+
+            //when
+            int moved = 0;
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                String owner = before.ownerOf(userId);
+                String newOwner = after.ownerOf(userId);
+                if (!owner.equals(newOwner)) {
+                    assertThat(newOwner).isEqualTo(added);
+                    moved++;
+                }
+            }
+
+            //then
+            assertThat(moved).isBetween(USER_COUNT / 8, USER_COUNT * 3 / 8);
+        }
+    }
+}
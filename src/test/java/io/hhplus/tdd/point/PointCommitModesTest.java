@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointCommitModesTest {
+
+    @Mock
+    PointWriteBehindQueue pointWriteBehindQueue;
+    @Mock
+    PointBatchCommitter pointBatchCommitter;
+    @Mock
+    OptimisticPointCommitter optimisticPointCommitter;
+    @Mock
+    PointMailboxCommitter pointMailboxCommitter;
+    @Mock
+    PointHotUserDetector pointHotUserDetector;
+
+    @Nested
+    class 처리_방식_결정 {
+
+        @Test
+        void 활성화된_방식이_없으면_유저_락_방식() {
+
+            //when
+            PointCommitModes result = create();
+
+            //then
+            assertThat(result.mode()).isEqualTo(PointCommitMode.LOCK);
+            assertThat(result.committer()).isNull();
+        }
+
+        @Test
+        void 하나만_활성화되면_해당_방식과_구현을_사용() {
+
+            //given
+            when(pointMailboxCommitter.isEnabled()).thenReturn(true);
+
+            //when
+            PointCommitModes result = create();
+
+            //then
+            assertThat(result.mode()).isEqualTo(PointCommitMode.MAILBOX);
+            assertThat(result.committer()).isSameAs(pointMailboxCommitter);
+        }
+
+        @Test
+        void 둘_이상_활성화되면_IllegalArgumentException_발생() {
+
+            //given
+            when(pointBatchCommitter.isEnabled()).thenReturn(true);
+            when(optimisticPointCommitter.isEnabled()).thenReturn(true);
+
+            //when //then
+            assertThatThrownBy(PointCommitModesTest.this::create)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("하나만");
+        }
+    }
+
+    private PointCommitModes create() {
+        return new PointCommitModes(pointWriteBehindQueue, pointBatchCommitter, optimisticPointCommitter, pointMailboxCommitter, pointHotUserDetector);
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "point.idempotency.enabled=true")
 @AutoConfigureMockMvc
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class PointControllerIntegrationTest {
@@ -55,6 +59,47 @@ class PointControllerIntegrationTest {
                     .andDo(print());
         }
     }
+    @Nested
+    class 여러_유저_포인트_조회 {
+
+        @Test
+        void 여러_유저_포인트_조회_시_중복을_제거한_유저_아이디별_유저_포인트_반환() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.charge(2L, 2000L);
+
+            List<Long> request = List.of(1L, 2L, 3L, 1L);
+
+            //when, then
+            mockMvc.perform(post("/point/batch-get")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(3))
+                    .andExpect(jsonPath("$['1'].point").value(1000L))
+                    .andExpect(jsonPath("$['2'].point").value(2000L))
+                    .andExpect(jsonPath("$['3'].point").value(0L))
+                    .andDo(print());
+        }
+
+        @Test
+        void 유저_아이디가_0_미만인_경우_여러_유저_포인트_조회_시_400_오류() throws Exception {
+
+            //given
+            List<Long> request = List.of(1L, -1L);
+
+            //when, then
+            mockMvc.perform(post("/point/batch-get")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value("유저 아이디 값은 0 이상이어야 합니다."))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class 포인트_내역_조회 {
 
@@ -91,6 +136,153 @@ class PointControllerIntegrationTest {
         }
     }
 
+    @Nested
+    class 포인트_내역_페이지_조회 {
+
+        @Test
+        void 조회_개수보다_내역이_많으면_다음_커서와_함께_첫_페이지_반환() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.charge(1L, 1000L);
+            pointService.use(1L, 500L);
+
+            //when, then
+            mockMvc.perform(get("/point/{id}/histories/page", 1L)
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.histories.length()").value(2))
+                    .andExpect(jsonPath("$.histories[0].id").value(1L))
+                    .andExpect(jsonPath("$.histories[1].id").value(2L))
+                    .andExpect(jsonPath("$.nextCursor").value(PointHistoryCursor.encode(2L)))
+                    .andDo(print());
+        }
+
+        @Test
+        void 다음_커서로_조회_시_이후_내역과_함께_빈_다음_커서_반환() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.charge(1L, 1000L);
+            pointService.use(1L, 500L);
+
+            //when, then
+            mockMvc.perform(get("/point/{id}/histories/page", 1L)
+                            .param("limit", "2")
+                            .param("cursor", PointHistoryCursor.encode(2L)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.histories.length()").value(1))
+                    .andExpect(jsonPath("$.histories[0].type").value(TransactionType.USE.name()))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        void 유효하지_않은_커서로_조회_시_400_오류() throws Exception {
+
+            //when, then
+            mockMvc.perform(get("/point/{id}/histories/page", 1L)
+                            .param("cursor", "invalid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."))
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    class 포인트_요약_조회 {
+
+        @Test
+        void 특정_유저의_포인트_요약_조회_시_타입별_건수와_금액_합계_반환() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.charge(1L, 2000L);
+            UserPoint userPoint = pointService.use(1L, 500L);
+
+            //when, then
+            mockMvc.perform(get("/point/{id}/summary", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value(1L))
+                    .andExpect(jsonPath("$.totals.CHARGE.count").value(2L))
+                    .andExpect(jsonPath("$.totals.CHARGE.amount").value(3000L))
+                    .andExpect(jsonPath("$.totals.USE.count").value(1L))
+                    .andExpect(jsonPath("$.totals.USE.amount").value(500L))
+                    .andExpect(jsonPath("$.lastActivityMillis").value(userPoint.updateMillis()))
+                    .andExpect(jsonPath("$.days.length()").value(1))
+                    .andDo(print());
+        }
+
+        @Test
+        void 특정_유저의_포인트_요약_재계산_시_유지하던_요약과_일치_여부_반환() throws Exception {
+
+            //given
+            pointService.getPointSummary(1L);
+            pointService.charge(1L, 1000L);
+
+            //when, then
+            mockMvc.perform(post("/point/{id}/summary/rebuild", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.consistent").value(true))
+                    .andExpect(jsonPath("$.after.totals.CHARGE.amount").value(1000L))
+                    .andDo(print());
+        }
+
+        @Test
+        void 음수_유저_아이디로_포인트_요약_조회_시_400_에러_반환() throws Exception {
+
+            //when, then
+            mockMvc.perform(get("/point/{id}/summary", -1L))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    class 포인트_내역_내보내기 {
+
+        @Test
+        void 여러_유저의_포인트_내역을_한_줄에_하나씩_NDJSON_으로_반환() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.charge(2L, 2000L);
+            pointService.use(1L, 500L);
+
+            //when
+            MvcResult mvcResult = mockMvc.perform(get("/point/histories/export")
+                            .param("userIds", "1,2,1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //then
+            String content = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            String[] lines = content.split("\n");
+            assertThat(lines).hasSize(3);
+            assertThat(objectMapper.readValue(lines[0], PointHistory.class).userId()).isEqualTo(1L);
+            assertThat(objectMapper.readValue(lines[1], PointHistory.class).type()).isEqualTo(TransactionType.USE);
+            assertThat(objectMapper.readValue(lines[2], PointHistory.class).userId()).isEqualTo(2L);
+        }
+
+        @Test
+        void 유저_아이디가_0_미만인_경우_포인트_내역_내보내기_시_400_오류() throws Exception {
+
+            //when, then
+            mockMvc.perform(get("/point/histories/export")
+                            .param("userIds", "1,-1"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value("유저 아이디 값은 0 이상이어야 합니다."))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class 포인트_충전 {
 
@@ -161,6 +353,48 @@ class PointControllerIntegrationTest {
                     .andExpect(jsonPath("$.message").value("최대 한도를 초과하여 충전하는 것은 불가능합니다."))
                     .andDo(print());
         }
+
+        @Test
+        void 같은_멱등_키로_다시_충전_요청_시_한_번만_충전하고_첫_요청의_유저_포인트_반환() throws Exception {
+
+            //given
+            long request = 1000L;
+            mockMvc.perform(patch("/point/{id}/charge", 1L)
+                    .header("Idempotency-Key", "charge-1")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            //when, then
+            mockMvc.perform(patch("/point/{id}/charge", 1L)
+                            .header("Idempotency-Key", "charge-1")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(1000L))
+                    .andDo(print());
+            assertThat(pointService.getUserPointById(1L).point()).isEqualTo(1000L);
+            assertThat(pointService.getPointHistoriesByUserId(1L)).hasSize(1);
+        }
+
+        @Test
+        void 같은_멱등_키로_다른_금액을_충전_요청_시_400_오류() throws Exception {
+
+            //given
+            mockMvc.perform(patch("/point/{id}/charge", 1L)
+                    .header("Idempotency-Key", "charge-1")
+                    .content(objectMapper.writeValueAsString(1000L))
+                    .contentType(MediaType.APPLICATION_JSON));
+
+            //when, then
+            mockMvc.perform(patch("/point/{id}/charge", 1L)
+                            .header("Idempotency-Key", "charge-1")
+                            .content(objectMapper.writeValueAsString(2000L))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value("같은 멱등 키로 다른 요청을 보낼 수 없습니다."))
+                    .andDo(print());
+        }
     }
 
     @Nested
@@ -235,4 +469,104 @@ class PointControllerIntegrationTest {
                     .andDo(print());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 비동기_포인트_충전_사용 {
+
+        @Test
+        void 비동기_충전_요청_시_요청_스레드를_반환하고_충전된_유저_포인트로_응답() throws Exception {
+
+            //given
+            pointService.charge(1L, 1000L);
+
+            //when
+            MvcResult mvcResult = mockMvc.perform(patch("/point/async/{id}/charge", 1L)
+                            .content(objectMapper.writeValueAsString(500L))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //then
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1L))
+                    .andExpect(jsonPath("$.point").value(1500L))
+                    .andDo(print());
+        }
+
+        @Test
+        void 유저_포인트에서_사용_금액을_뺀_값이_0_미만인_경우_비동기_사용_시_400_오류() throws Exception {
+
+            //when
+            MvcResult mvcResult = mockMvc.perform(patch("/point/async/{id}/use", 1L)
+                            .content(objectMapper.writeValueAsString(1000L))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //then
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    class 포인트_일괄_처리 {
+
+        @Test
+        void 여러_유저의_충전_사용_작업을_요청_순서대로_작업별_결과와_함께_반환() throws Exception {
+
+            //given
+            List<PointOperation> request = List.of(
+                    new PointOperation(1L, 1000L, TransactionType.CHARGE),
+                    new PointOperation(2L, 500L, TransactionType.CHARGE),
+                    new PointOperation(1L, 300L, TransactionType.USE),
+                    new PointOperation(2L, 1000L, TransactionType.USE)
+            );
+
+            //when, then
+            mockMvc.perform(post("/point/bulk")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(4))
+                    .andExpect(jsonPath("$[0].userPoint.point").value(1000L))
+                    .andExpect(jsonPath("$[1].userPoint.point").value(500L))
+                    .andExpect(jsonPath("$[2].userPoint.point").value(700L))
+                    .andExpect(jsonPath("$[3].error.code").value("400"))
+                    .andExpect(jsonPath("$[3].error.message").value("사용 가능한 금액을 초과하였습니다."))
+                    .andDo(print());
+            assertThat(pointService.getUserPointById(1L).point()).isEqualTo(700L);
+            assertThat(pointService.getUserPointById(2L).point()).isEqualTo(500L);
+        }
+
+        @Test
+        void 작업이_비어_있는_경우_포인트_일괄_처리_시_400_오류() throws Exception {
+
+            //when, then
+            mockMvc.perform(post("/point/bulk")
+                            .content("[]")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value("일괄 작업은 1개 이상이어야 합니다."))
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    class 요청이_몰린_유저_조회 {
+
+        @Test
+        void 요청이_몰린_유저가_없으면_빈_목록_반환() throws Exception {
+
+            //when, then
+            mockMvc.perform(get("/admin/point/hot-users"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0))
+                    .andDo(print());
+        }
+    }
+}
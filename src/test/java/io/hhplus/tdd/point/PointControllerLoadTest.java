@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 처리 스레드 방식별 동시 요청 처리 시간 비교
+ * - 서로 다른 유저의 포인트 조회 요청을 한꺼번에 보내 모두 응답받기까지 걸린 시간과 처리량을 로그로 남긴다.
+ * - 플랫폼 스레드는 Tomcat 최대 스레드 수(200)만큼만 동시에 처리하고, 가상 스레드는 요청마다 스레드를 만들어 처리한다.
+ * - 비동기 API 는 적은 수(20)의 Tomcat 스레드로 요청을 받고, 조회를 비동기 처리 스레드 풀에 넘긴 뒤 요청 스레드를 바로 반환한다.
+ * - ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+abstract class PointControllerLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointControllerLoadTest.class);
+
+    private static final int REQUEST_COUNT = 2000;
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void 서로_다른_유저의_포인트_조회_요청이_동시에_들어왔을_때_모든_요청을_처리하는_시간_측정() throws Exception {
+
+        //given
+        ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+
+        //when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path(i))).GET().build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        log.info("동시 조회 처리 시간 측정 mode={}, requests={}, elapsedMillis={}, throughputPerSecond={}",
+                getClass().getSimpleName(), REQUEST_COUNT, elapsedMillis, REQUEST_COUNT * 1000L / Math.max(1, elapsedMillis));
+
+        //then
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+
+        clientExecutor.shutdown();
+    }
+
+    String path(int userId) {
+        return "/point/" + userId;
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=200"
+    })
+    static class 플랫폼_스레드 extends PointControllerLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true"
+    })
+    static class 가상_스레드 extends PointControllerLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=20",
+            "point.async.threads=200"
+    })
+    static class 비동기_API extends PointControllerLoadTest {
+
+        @Override
+        String path(int userId) {
+            return "/point/async/" + userId;
+        }
+    }
+}
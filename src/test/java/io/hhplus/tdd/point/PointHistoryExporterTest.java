@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHistoryExporterTest {
+
+    private static final int HISTORY_COUNT = PointHistoryExporter.CHUNK_SIZE * 2 + 1;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    AtomicInteger selectCount = new AtomicInteger();
+    PointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void before() {
+        PointHistoryRepository columnar = new ColumnarPointHistoryRepository();
+        pointHistoryRepository = new PointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                return columnar.insert(userId, amount, type, updateMillis);
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                selectCount.incrementAndGet();
+                return columnar.selectAllByUserId(userId);
+            }
+        };
+        for (int i = 0; i < HISTORY_COUNT; i++) {
+            pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, i);
+        }
+    }
+
+    @Nested
+    class 포인트_내역_내보내기 {
+
+        @Test
+        void 내역_인덱스가_꺼져_있으면_유저별_내역을_한_번만_읽고_모두_기록() throws Exception {
+
+            //given
+            PointServiceFixture fixture = PointServiceFixture.builder()
+                    .pointHistoryRepository(pointHistoryRepository)
+                    .build();
+            PointHistoryExporter pointHistoryExporter = new PointHistoryExporter(fixture.pointService(), fixture.pointHistoryIndex(), objectMapper);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            //when
+            pointHistoryExporter.export(List.of(1L), out);
+
+            //then
+            String[] lines = out.toString().split("\n");
+            assertThat(lines).hasSize(HISTORY_COUNT);
+            assertThat(objectMapper.readValue(lines[HISTORY_COUNT - 1], PointHistory.class).updateMillis()).isEqualTo(HISTORY_COUNT - 1);
+            assertThat(selectCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        void 내역_인덱스가_켜져_있으면_페이지_단위로_모두_기록() throws Exception {
+
+            //given
+            PointServiceFixture fixture = PointServiceFixture.builder()
+                    .pointHistoryRepository(pointHistoryRepository)
+                    .pointHistoryIndex(new PointHistoryIndexProperties(true))
+                    .build();
+            PointHistoryExporter pointHistoryExporter = new PointHistoryExporter(fixture.pointService(), fixture.pointHistoryIndex(), objectMapper);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            //when
+            pointHistoryExporter.export(List.of(1L), out);
+
+            //then
+            assertThat(out.toString().split("\n")).hasSize(HISTORY_COUNT);
+            assertThat(selectCount.get()).isEqualTo(1);
+        }
+    }
+}
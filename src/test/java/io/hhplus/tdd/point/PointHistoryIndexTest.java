@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHistoryIndexTest {
+
+    private static final long ANY_AMOUNT = 1000L;
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    PointHistoryRepository pointHistoryRepository;
+    PointHistoryIndex pointHistoryIndex;
+
+    @BeforeEach
+    void before() {
+        pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+        pointHistoryIndex = new PointHistoryIndex(pointHistoryRepository, new PointHistoryIndexProperties(true));
+    }
+
+    @Nested
+    class 유저별_포인트_내역_조회 {
+
+        @Test
+        void 테이블에만_저장된_포인트_내역은_처음_조회_시_적재하여_반환() {
+
+            //given
+            pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            pointHistoryRepository.insert(2L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.USE, ANY_UPDATE_MILLIS);
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findAllByUserId(1L);
+
+            //then
+            assertThat(result).isEqualTo(List.of(
+                    new PointHistory(1L, 1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS),
+                    new PointHistory(3L, 1L, ANY_AMOUNT, TransactionType.USE, ANY_UPDATE_MILLIS)
+            ));
+        }
+
+        @Test
+        void 적재_이후_기록된_포인트_내역은_테이블_조회_없이_순서대로_반환() {
+
+            //given
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS));
+            pointHistoryIndex.findAllByUserId(1L);
+
+            //when
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.USE, ANY_UPDATE_MILLIS));
+            List<PointHistory> result = pointHistoryIndex.findAllByUserId(1L);
+
+            //then
+            assertThat(result).isEqualTo(List.of(
+                    new PointHistory(1L, 1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS),
+                    new PointHistory(2L, 1L, ANY_AMOUNT, TransactionType.USE, ANY_UPDATE_MILLIS)
+            ));
+        }
+
+        @Test
+        void 적재_전에_기록된_포인트_내역과_테이블_내역은_중복_없이_합쳐서_반환() {
+
+            //given
+            pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.USE, ANY_UPDATE_MILLIS));
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findAllByUserId(1L);
+
+            //then
+            assertThat(result).extracting(PointHistory::id).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void 포인트_내역이_없는_유저는_빈_목록_반환() {
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findAllByUserId(1L);
+
+            //then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    class 유저별_포인트_내역_페이지_조회 {
+
+        @BeforeEach
+        void before() {
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, 10L));
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.USE, 20L));
+            pointHistoryIndex.record(pointHistoryRepository.insert(2L, ANY_AMOUNT, TransactionType.CHARGE, 30L));
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, 40L));
+            pointHistoryIndex.record(pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.USE, 50L));
+        }
+
+        @Test
+        void 조회_개수보다_하나_더_많은_내역까지_반환() {
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findPage(1L, new PointHistoryQuery(null, null, null, null, 2));
+
+            //then
+            assertThat(result).extracting(PointHistory::id).containsExactly(1L, 2L, 4L);
+        }
+
+        @Test
+        void 커서가_있으면_커서_이후의_내역부터_반환() {
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findPage(1L, new PointHistoryQuery(2L, null, null, null, 10));
+
+            //then
+            assertThat(result).extracting(PointHistory::id).containsExactly(4L, 5L);
+        }
+
+        @Test
+        void 시각_범위와_트랜잭션_타입에_맞는_내역만_반환() {
+
+            //when
+            List<PointHistory> result = pointHistoryIndex.findPage(1L, new PointHistoryQuery(null, 15L, 50L, TransactionType.USE, 10));
+
+            //then
+            assertThat(result).extracting(PointHistory::id).containsExactly(2L, 5L);
+        }
+    }
+
+    @Nested
+    class 인덱스_재구성 {
+
+        @Test
+        void 재구성_시_테이블의_포인트_내역으로_인덱스를_다시_만듦() {
+
+            //given
+            pointHistoryIndex.findAllByUserId(1L);
+            pointHistoryRepository.insert(1L, ANY_AMOUNT, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+
+            //when
+            pointHistoryIndex.rebuild(List.of(1L));
+
+            //then
+            assertThat(pointHistoryIndex.findAllByUserId(1L)).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHotUserDetectorTest {
+
+    @Nested
+    class 요청이_몰린_유저_감지 {
+
+        @Test
+        void 처리_중인_요청_수가_기준_이상이면_묶음_처리로_전환() {
+
+            //given
+            PointHotUserDetector detector = new PointHotUserDetector(new PointHotUserProperties(true, 3, 1000L, 60000L));
+
+            //when
+            boolean first = detector.enter(1L);
+            boolean second = detector.enter(1L);
+            boolean third = detector.enter(1L);
+
+            //then
+            assertThat(first).isFalse();
+            assertThat(second).isFalse();
+            assertThat(third).isTrue();
+            assertThat(detector.hotUsers()).extracting(PointHotUser::userId, PointHotUser::queueDepth)
+                    .containsExactly(tuple(1L, 3));
+        }
+
+        @Test
+        void 락_대기_시간이_기준_이상이면_묶음_처리로_전환() {
+
+            //given
+            PointHotUserDetector detector = new PointHotUserDetector(new PointHotUserProperties(true, 100, 10L, 60000L));
+            detector.enter(1L);
+
+            //when
+            detector.recordLockWait(1L, TimeUnit.MILLISECONDS.toNanos(20L));
+            detector.exit(1L);
+
+            //then
+            assertThat(detector.enter(1L)).isTrue();
+            assertThat(detector.hotUsers()).extracting(PointHotUser::userId, PointHotUser::lastLockWaitMillis)
+                    .containsExactly(tuple(1L, 20L));
+        }
+
+        @Test
+        void 다른_유저의_요청은_요청이_몰린_유저의_영향을_받지_않음() {
+
+            //given
+            PointHotUserDetector detector = new PointHotUserDetector(new PointHotUserProperties(true, 2, 1000L, 60000L));
+            detector.enter(1L);
+            detector.enter(1L);
+
+            //when
+            boolean result = detector.enter(2L);
+
+            //then
+            assertThat(result).isFalse();
+            assertThat(detector.hotUsers()).extracting(PointHotUser::userId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    class 원래_방식으로_복귀 {
+
+        @Test
+        void 요청이_줄어도_유지_시간_동안은_묶음_처리_유지() {
+
+            //given
+            PointHotUserDetector detector = new PointHotUserDetector(new PointHotUserProperties(true, 2, 1000L, 60000L));
+            detector.enter(1L);
+            detector.enter(1L);
+            detector.exit(1L);
+            detector.exit(1L);
+
+            //when
+            boolean result = detector.enter(1L);
+
+            //then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        void 유지_시간_동안_기준을_넘지_않으면_유저_락_방식으로_되돌리고_목록에서_제거() throws InterruptedException {
+
+            //given
+            PointHotUserDetector detector = new PointHotUserDetector(new PointHotUserProperties(true, 2, 1000L, 50L));
+            detector.enter(1L);
+            detector.enter(1L);
+            detector.exit(1L);
+            detector.exit(1L);
+
+            //when
+            Thread.sleep(100L);
+            boolean result = detector.enter(1L);
+            detector.exit(1L);
+
+            //then
+            assertThat(result).isFalse();
+            assertThat(detector.hotUsers()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointIdempotencyCacheTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @Nested
+    class 멱등_키_실행 {
+
+        @Test
+        void 같은_멱등_키로_다시_실행_시_작업을_다시_실행하지_않고_첫_결과_반환() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+            AtomicInteger executeCount = new AtomicInteger();
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet() * 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            UserPoint result = pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet() * 1000L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            assertThat(executeCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        void 같은_멱등_키라도_유저가_다르면_각각_실행() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+            AtomicInteger executeCount = new AtomicInteger();
+
+            //when
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+            pointIdempotencyCache.execute("key", 2L, TransactionType.CHARGE, 1000L, () -> new UserPoint(2L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        void 처리_중인_멱등_키로_동시에_실행_시_한_번만_실행하고_모두_같은_결과_반환() throws InterruptedException {
+
+            //given
+            int threadCount = 20;
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+            AtomicInteger executeCount = new AtomicInteger();
+            List<UserPoint> results = new CopyOnWriteArrayList<>();
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    results.add(pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+                        executeCount.incrementAndGet();
+                        try {
+                            startLatch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+                    }));
+                    countDownLatch.countDown();
+                });
+            }
+            startLatch.countDown();
+            countDownLatch.await();
+            executorService.shutdown();
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(1);
+            assertThat(results).hasSize(threadCount).containsOnly(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+        }
+
+        @Test
+        void 첫_실행이_실패하면_같은_멱등_키로_다시_실행() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+            assertThatThrownBy(() -> pointIdempotencyCache.execute("key", 1L, TransactionType.USE, 1000L, () -> {
+                throw new IllegalArgumentException("포인트가 부족합니다.");
+            })).isInstanceOf(IllegalArgumentException.class);
+
+            //when
+            UserPoint result = pointIdempotencyCache.execute("key", 1L, TransactionType.USE, 1000L, () -> new UserPoint(1L, 0L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 0L, ANY_UPDATE_MILLIS));
+        }
+
+        @Test
+        void 같은_멱등_키로_다른_금액을_실행_시_IllegalArgumentException_발생() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when //then
+            assertThatThrownBy(() -> pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 2000L, () -> new UserPoint(1L, 3000L, ANY_UPDATE_MILLIS)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+        }
+
+        @Test
+        void 빈_멱등_키로_실행_시_IllegalArgumentException_발생() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 60000L));
+
+            //when //then
+            assertThatThrownBy(() -> pointIdempotencyCache.execute(" ", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 비활성화된_경우_같은_멱등_키라도_매번_실행() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(PointIdempotencyProperties.disabled());
+            AtomicInteger executeCount = new AtomicInteger();
+
+            //when
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class 멱등_키_제거 {
+
+        @Test
+        void 최대_크기를_넘으면_가장_먼저_저장된_키부터_제거() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 2, 60000L));
+            AtomicInteger executeCount = new AtomicInteger();
+            pointIdempotencyCache.execute("key-1", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+            pointIdempotencyCache.execute("key-2", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //when
+            pointIdempotencyCache.execute("key-3", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+            pointIdempotencyCache.execute("key-1", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(4);
+            assertThat(pointIdempotencyCache.size()).isEqualTo(2);
+        }
+
+        @Test
+        void 최대_크기를_넘으면_처리_중인_키는_건너뛰고_완료된_키를_제거() throws InterruptedException {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 2, 60000L));
+            CountDownLatch startedLatch = new CountDownLatch(1);
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            executorService.execute(() -> pointIdempotencyCache.execute("key-1", 1L, TransactionType.CHARGE, 1000L, () -> {
+                startedLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            }));
+            startedLatch.await();
+            pointIdempotencyCache.execute("key-2", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
+
+            //when
+            pointIdempotencyCache.execute("key-3", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 3000L, ANY_UPDATE_MILLIS));
+            UserPoint result = pointIdempotencyCache.execute("key-2", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 4000L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 4000L, ANY_UPDATE_MILLIS));
+            assertThat(pointIdempotencyCache.size()).isEqualTo(2);
+            releaseLatch.countDown();
+            executorService.shutdown();
+        }
+
+        @Test
+        void 모든_키가_처리_중이면_새_키는_PointUnavailableException_발생() throws InterruptedException {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 1, 60000L));
+            CountDownLatch startedLatch = new CountDownLatch(1);
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            executorService.execute(() -> pointIdempotencyCache.execute("key-1", 1L, TransactionType.CHARGE, 1000L, () -> {
+                startedLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            }));
+            startedLatch.await();
+
+            //when //then
+            assertThatThrownBy(() -> pointIdempotencyCache.execute("key-2", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS)))
+                    .isInstanceOf(PointUnavailableException.class)
+                    .hasMessage("처리 중인 멱등 키가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            assertThat(pointIdempotencyCache.size()).isEqualTo(1);
+            releaseLatch.countDown();
+            executorService.shutdown();
+        }
+
+        @Test
+        void 유지_시간은_첫_요청이_완료된_시점부터_계산() {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 500L));
+            AtomicInteger executeCount = new AtomicInteger();
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+                executeCount.incrementAndGet();
+                try {
+                    Thread.sleep(700L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS);
+            });
+
+            //when
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        void 유지_시간이_지난_키는_다시_실행() throws InterruptedException {
+
+            //given
+            PointIdempotencyCache pointIdempotencyCache = new PointIdempotencyCache(new PointIdempotencyProperties(true, 10, 1L));
+            AtomicInteger executeCount = new AtomicInteger();
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+            Thread.sleep(5L);
+
+            //when
+            pointIdempotencyCache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> new UserPoint(1L, executeCount.incrementAndGet(), ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(executeCount.get()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLookupExecutorTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @Mock
+    PointService pointService;
+    PointLookupExecutor pointLookupExecutor;
+
+    @BeforeEach
+    void before() {
+        pointLookupExecutor = new PointLookupExecutor(pointService, new PointLookupProperties(100, 64));
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        pointLookupExecutor.shutdown();
+    }
+
+    @Nested
+    class 여러_유저_포인트_조회 {
+
+        @Test
+        void 중복된_아이디는_한_번만_조회하고_요청_순서대로_반환() {
+
+            //given
+            when(pointService.getUserPointById(anyLong()))
+                    .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            Map<Long, UserPoint> result = pointLookupExecutor.getUserPoints(List.of(3L, 1L, 3L, 2L));
+
+            //then
+            assertThat(result.keySet()).containsExactly(3L, 1L, 2L);
+            assertThat(result.get(1L)).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            verify(pointService, times(1)).getUserPointById(3L);
+        }
+
+        @Test
+        void 여러_유저_조회_시간은_가장_느린_조회_하나에_가까움() {
+
+            //given
+            when(pointService.getUserPointById(anyLong()))
+                    .thenAnswer(invocation -> {
+                        Thread.sleep(200L);
+                        return UserPoint.empty(invocation.getArgument(0));
+                    });
+            List<Long> userIds = new ArrayList<>();
+            for (long userId = 1; userId <= 20; userId++) {
+                userIds.add(userId);
+            }
+
+            //when
+            long startedAt = System.currentTimeMillis();
+            Map<Long, UserPoint> result = pointLookupExecutor.getUserPoints(userIds);
+            long elapsedMillis = System.currentTimeMillis() - startedAt;
+
+            //then
+            assertThat(result).hasSize(20);
+            assertThat(elapsedMillis).isLessThan(1000L);
+        }
+
+        @Test
+        void 조회_중_예외가_발생하면_해당_예외_그대로_발생() {
+
+            //given
+            when(pointService.getUserPointById(anyLong()))
+                    .thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+            when(pointService.getUserPointById(2L))
+                    .thenThrow(new PointUnavailableException("포인트 조회 대기 중 인터럽트가 발생했습니다."));
+
+            //when, then
+            assertThatThrownBy(() -> pointLookupExecutor.getUserPoints(List.of(1L, 2L)))
+                    .isInstanceOf(PointUnavailableException.class);
+        }
+
+        @Test
+        void 유저_아이디가_0_미만인_경우_예외_발생() {
+
+            //when, then
+            assertThatThrownBy(() -> pointLookupExecutor.getUserPoints(List.of(1L, -1L)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("유저 아이디 값은 0 이상이어야 합니다.");
+            verifyNoInteractions(pointService);
+        }
+
+        @Test
+        void 유저_아이디_수가_최대치를_넘는_경우_예외_발생() {
+
+            //given
+            List<Long> userIds = new ArrayList<>();
+            for (long userId = 1; userId <= 101; userId++) {
+                userIds.add(userId);
+            }
+
+            //when, then
+            assertThatThrownBy(() -> pointLookupExecutor.getUserPoints(userIds))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("조회할 유저 아이디는 100개 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointMailboxCommitterTest {
+
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
+    PointMailboxCommitter pointMailboxCommitter;
+
+    @BeforeEach
+    void before() {
+        userPointRepository = new UserPointTableRepository(new UserPointTable());
+        pointHistoryRepository = new ColumnarPointHistoryRepository();
+        pointMailboxCommitter = create(new PointMailboxProperties(true, 2, 1000, 2));
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        pointMailboxCommitter.shutdown();
+    }
+
+    @Nested
+    class 메일박스_처리 {
+
+        @Test
+        void 여러_유저의_요청이_동시에_들어와도_유저별로_모든_요청을_반영() throws InterruptedException {
+
+            //given
+            int userCount = 8;
+            int requestCount = 10;
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch countDownLatch = new CountDownLatch(userCount * requestCount);
+
+            //when
+            for (int i = 0; i < userCount * requestCount; i++) {
+                long userId = i % userCount;
+                executorService.execute(() -> {
+                    pointMailboxCommitter.commit(userId, 100L, TransactionType.CHARGE);
+                    countDownLatch.countDown();
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+
+            //then
+            for (long userId = 0; userId < userCount; userId++) {
+                assertThat(userPointRepository.selectById(userId).point()).isEqualTo(100L * requestCount);
+                assertThat(pointHistoryRepository.selectAllByUserId(userId)).hasSize(requestCount);
+            }
+        }
+
+        @Test
+        void 처리가_끝나_빈_메일박스는_제거() throws InterruptedException {
+
+            //given
+            pointMailboxCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+            pointMailboxCommitter.commit(2L, 1000L, TransactionType.CHARGE);
+
+            //when
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pointMailboxCommitter.activeMailboxCount() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            //then
+            assertThat(pointMailboxCommitter.activeMailboxCount()).isEqualTo(0);
+        }
+
+        @Test
+        void 도메인_규칙을_어긴_요청은_예외를_던지고_다음_요청은_이전_잔고에서_처리() {
+
+            //given
+            pointMailboxCommitter.commit(1L, 1000L, TransactionType.CHARGE);
+
+            //when
+            assertThatThrownBy(() -> pointMailboxCommitter.commit(1L, 2000L, TransactionType.USE))
+                    .isInstanceOf(IllegalArgumentException.class);
+            UserPoint result = pointMailboxCommitter.commit(1L, 500L, TransactionType.USE);
+
+            //then
+            assertThat(result.point()).isEqualTo(500L);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(2);
+        }
+
+        @Test
+        void 대기_요청이_최대_수를_넘으면_PointUnavailableException_발생() throws InterruptedException {
+
+            //given
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            UserPointRepository delegate = userPointRepository;
+            userPointRepository = new UserPointRepository() {
+                @Override
+                public UserPoint selectById(long id) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return delegate.selectById(id);
+                }
+
+                @Override
+                public UserPoint insertOrUpdate(long id, long amount) {
+                    return delegate.insertOrUpdate(id, amount);
+                }
+            };
+            pointMailboxCommitter.shutdown();
+            pointMailboxCommitter = create(new PointMailboxProperties(true, 1, 1, 1));
+            Thread blocked = new Thread(() -> pointMailboxCommitter.commit(1L, 1000L, TransactionType.CHARGE));
+            blocked.start();
+            started.await();
+
+            //when //then
+            assertThatThrownBy(() -> pointMailboxCommitter.commit(2L, 1000L, TransactionType.CHARGE))
+                    .isInstanceOf(PointUnavailableException.class);
+            release.countDown();
+            blocked.join();
+        }
+
+        @Test
+        void 종료된_뒤_들어온_요청은_PointUnavailableException_발생() throws InterruptedException {
+
+            //given
+            pointMailboxCommitter.shutdown();
+
+            //when //then
+            assertThatThrownBy(() -> pointMailboxCommitter.commit(1L, 1000L, TransactionType.CHARGE))
+                    .isInstanceOf(PointUnavailableException.class);
+        }
+    }
+
+    private PointMailboxCommitter create(PointMailboxProperties properties) {
+        return PointServiceFixture.builder()
+                .userPointRepository(userPointRepository)
+                .pointHistoryRepository(pointHistoryRepository)
+                .mailbox(properties)
+                .build()
+                .pointMailboxCommitter();
+    }
+}
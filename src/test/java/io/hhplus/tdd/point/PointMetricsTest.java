@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointMetricsTest {
+
+    MeterRegistry meterRegistry;
+    UserLockManager userLockManager;
+    UserPointCache userPointCache;
+    PointMetrics pointMetrics;
+
+    @BeforeEach
+    void before() {
+        meterRegistry = new SimpleMeterRegistry();
+        userLockManager = new UserLockManager();
+        userPointCache = new UserPointCache(new UserPointCacheProperties(true, 10, 60000L), userLockManager);
+        pointMetrics = new PointMetrics(meterRegistry, userPointCache, userLockManager);
+    }
+
+    @Nested
+    class 처리_결과_기록 {
+
+        @Test
+        void 처리_결과는_타입과_결과_태그별로_집계() {
+
+            //when
+            pointMetrics.recordOutcome(TransactionType.CHARGE, PointOutcome.SUCCESS);
+            pointMetrics.recordOutcome(TransactionType.CHARGE, PointOutcome.SUCCESS);
+            pointMetrics.recordOutcome(TransactionType.USE, PointOutcome.INSUFFICIENT_BALANCE);
+
+            //then
+            assertThat(commitCount(TransactionType.CHARGE, PointOutcome.SUCCESS)).isEqualTo(2.0);
+            assertThat(commitCount(TransactionType.USE, PointOutcome.INSUFFICIENT_BALANCE)).isEqualTo(1.0);
+            assertThat(commitCount(TransactionType.USE, PointOutcome.SUCCESS)).isEqualTo(0.0);
+        }
+    }
+
+    @Nested
+    class 시간_기록 {
+
+        @Test
+        void 락_대기_시간은_타입별_타이머에_기록() {
+
+            //when
+            pointMetrics.recordLockWait(TransactionType.CHARGE, TimeUnit.MILLISECONDS.toNanos(5));
+
+            //then
+            assertThat(meterRegistry.get("point.lock.wait").tag("type", "CHARGE").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.lock.wait").tag("type", "USE").timer().count()).isEqualTo(0L);
+        }
+
+        @Test
+        void 테이블_호출_시간은_연산별_타이머에_기록() {
+
+            //when
+            pointMetrics.recordSelectById(1000L);
+            pointMetrics.recordInsertOrUpdate(1000L);
+            pointMetrics.recordInsertOrUpdate(1000L);
+
+            //then
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "selectById").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "insertOrUpdate").timer().count()).isEqualTo(2L);
+            assertThat(meterRegistry.get("point.table.call").tag("operation", "historyInsert").timer().count()).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    class 캐시_락_지표 {
+
+        @Test
+        void 캐시_통계는_조회_시점의_값으로_노출() {
+
+            //given
+            userPointCache.get(1L, UserPoint::empty);
+            userPointCache.get(1L, UserPoint::empty);
+
+            //when //then
+            assertThat(meterRegistry.get("point.cache.hits").functionCounter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("point.cache.misses").functionCounter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("point.cache.size").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        void 락_획득_횟수는_락_전략_태그와_함께_노출() {
+
+            //given
+            ReentrantLock lock = userLockManager.getLock(1L);
+            lock.lock();
+            lock.unlock();
+
+            //when //then
+            assertThat(meterRegistry.get("point.lock.acquires").tag("strategy", "PER_USER").functionCounter().count()).isGreaterThanOrEqualTo(1.0);
+        }
+    }
+
+    private double commitCount(TransactionType type, PointOutcome outcome) {
+        return meterRegistry.get("point.commit")
+                .tag("type", type.name())
+                .tag("outcome", outcome.name())
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,217 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 저장소 구현마다 PointServiceIntegrationTest 의 기본 시나리오를 똑같이 실행해 테이블 저장소와 같은 결과를 내는지 확인한다.
+ * 저장소 구현별 하위 클래스에서 사용할 저장소를 만든다.
+ */
+abstract class PointRepositoryConformanceTest {
+
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
+    PointService pointService;
+
+    abstract UserPointRepository createUserPointRepository();
+
+    abstract PointHistoryRepository createPointHistoryRepository();
+
+    @BeforeEach
+    void before() {
+        userPointRepository = createUserPointRepository();
+        pointHistoryRepository = createPointHistoryRepository();
+        pointService = PointServiceFixture.builder()
+                .userPointRepository(userPointRepository)
+                .pointHistoryRepository(pointHistoryRepository)
+                .pointHistoryIndex(new PointHistoryIndexProperties(true))
+                .pointSummary(new PointSummaryProperties(true, 30))
+                .build()
+                .pointService();
+    }
+
+    @Nested
+    class 유저_포인트_조회 {
+
+        @Test
+        void 특정_유저의_유저_포인트가_존재할_때_유저_포인트_조회_시_해당_유저의_유저_포인트_반환() {
+
+            //given
+            UserPoint saved = userPointRepository.insertOrUpdate(1L, 1000L);
+
+            //when
+            UserPoint result = pointService.getUserPointById(1L);
+
+            //then
+            assertThat(result).isEqualTo(saved);
+        }
+
+        @Test
+        void 특정_유저의_유저_포인트가_존재하지_않을_때_유저_포인트_조회_시_포인트_잔고_0을_가진_빈_유저_포인트_반환() {
+
+            //when
+            UserPoint result = pointService.getUserPointById(1L);
+
+            //then
+            assertThat(result.id()).isEqualTo(1L);
+            assertThat(result.point()).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    class 포인트_내역_조회 {
+
+        @Test
+        void 특정_유저의_포인트_내역이_존재할_때_포인트_내역_조회_시_해당_유저의_포인트_내역_목록_반환() {
+
+            //given
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.USE, 1L);
+            pointHistoryRepository.insert(2L, 1000L, TransactionType.CHARGE, 1L);
+
+            //when
+            List<PointHistory> result = pointService.getPointHistoriesByUserId(1L);
+
+            //then
+            assertThat(result).isEqualTo(List.of(
+                    new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                    new PointHistory(2L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                    new PointHistory(3L, 1L, 1000L, TransactionType.USE, 1L)
+            ));
+        }
+
+        @Test
+        void 특정_유저의_포인트_내역이_존재하지_않을_때_포인트_내역_조회_시_빈_목록_반환() {
+
+            //when
+            List<PointHistory> result = pointService.getPointHistoriesByUserId(1L);
+
+            //then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    class 포인트_충전 {
+
+        @Test
+        void 특정_유저의_유저_포인트와_포인트_내역이_존재할_때_포인트_충전_시_충전된_유저_포인트와_함꼐_포인트_충전_내역_정상적으로_저장() {
+
+            //given
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 1000L);
+            PointHistory pointHistory = pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, userPoint.updateMillis());
+
+            //when
+            UserPoint result = pointService.charge(1L, 1000L);
+
+            //then
+            assertThat(userPointRepository.selectById(1L)).isEqualTo(new UserPoint(1L, 2000L, result.updateMillis()));
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEqualTo(List.of(
+                    pointHistory,
+                    new PointHistory(2L, 1L, 1000L, TransactionType.CHARGE, result.updateMillis())
+            ));
+        }
+
+        @Test
+        void 최대_한도를_초과하여_충전_시_IllegalArgumentException_발생하고_저장하지_않음() {
+
+            //given
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 200000L);
+
+            //when //then
+            assertThatThrownBy(() -> pointService.charge(1L, 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(userPointRepository.selectById(1L)).isEqualTo(userPoint);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    class 포인트_사용 {
+
+        @Test
+        void 특정_유저의_유저_포인트와_포인트_내역_존재할_때_포인트_사용_시_사용한_유저_포인트와_함꼐_포인트_사용_내역_정상적으로_저장() {
+
+            //given
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 2000L);
+            PointHistory pointHistory = pointHistoryRepository.insert(1L, 2000L, TransactionType.CHARGE, userPoint.updateMillis());
+
+            //when
+            UserPoint result = pointService.use(1L, 1000L);
+
+            //then
+            assertThat(userPointRepository.selectById(1L)).isEqualTo(new UserPoint(1L, 1000L, result.updateMillis()));
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEqualTo(List.of(
+                    pointHistory,
+                    new PointHistory(2L, 1L, 1000L, TransactionType.USE, result.updateMillis())
+            ));
+        }
+
+        @Test
+        void 잔고보다_많은_금액을_사용_시_IllegalArgumentException_발생하고_저장하지_않음() {
+
+            //given
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 500L);
+
+            //when //then
+            assertThatThrownBy(() -> pointService.use(1L, 1000L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(userPointRepository.selectById(1L)).isEqualTo(userPoint);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    class 동시성_테스트 {
+
+        @Test
+        void 여러_유저의_충전_사용_요청이_동시에_들어왔을_때_모든_요청들이_정상적으로_반영된_유저_포인트와_포인트_내역_저장() throws InterruptedException {
+
+            //given
+            int userCount = 4;
+            int requestsPerUser = 10;
+            ExecutorService executorService = Executors.newFixedThreadPool(userCount * 2);
+            CountDownLatch countDownLatch = new CountDownLatch(userCount * requestsPerUser);
+            for (long userId = 0; userId < userCount; userId++) {
+                pointService.charge(userId, 100000L);
+            }
+
+            //when
+            for (int i = 0; i < userCount * requestsPerUser; i++) {
+                long userId = i % userCount;
+                boolean charge = i % 2 == 0;
+                executorService.execute(() -> {
+                    try {
+                        if (charge) {
+                            pointService.charge(userId, 1000L);
+                        } else {
+                            pointService.use(userId, 300L);
+                        }
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+
+            //then
+            for (long userId = 0; userId < userCount; userId++) {
+                long expected = 100000L + (userId % 2 == 0 ? 1000L * requestsPerUser : -300L * requestsPerUser);
+                assertThat(pointService.getUserPointById(userId).point()).isEqualTo(expected);
+                assertThat(pointService.getPointHistoriesByUserId(userId)).hasSize(requestsPerUser + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 테스트와 벤치마크에서 PointService 와 협력 객체를 실제 구현으로 조립한다.
+ * - 기본값은 테이블 저장소와 기본 유저 락이며, 선택 기능과 충전/사용 처리 방식은 모두 비활성화된 설정을 사용한다.
+ * - 바꿀 저장소나 설정만 지정하고, 모든 처리 방식 구현은 같은 저장소, 락, 캐시, 인덱스, 로그를 공유한다.
+ */
+final class PointServiceFixture {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointSummaryIndex pointSummaryIndex;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointWriteBehindQueue pointWriteBehindQueue;
+    private final PointBatchCommitter pointBatchCommitter;
+    private final OptimisticPointCommitter optimisticPointCommitter;
+    private final PointMailboxCommitter pointMailboxCommitter;
+    private final PointHotUserDetector pointHotUserDetector;
+    private final PointService pointService;
+
+    private PointServiceFixture(Builder builder) {
+        userPointRepository = builder.userPointRepository != null ? builder.userPointRepository : new UserPointTableRepository(new UserPointTable());
+        pointHistoryRepository = builder.pointHistoryRepository != null ? builder.pointHistoryRepository : new PointHistoryTableRepository(new PointHistoryTable());
+        userLockManager = builder.userLockManager != null ? builder.userLockManager : new UserLockManager();
+        userPointCache = new UserPointCache(builder.userPointCacheProperties, userLockManager);
+        pointHistoryIndex = new PointHistoryIndex(pointHistoryRepository, builder.pointHistoryIndexProperties);
+        pointSummaryIndex = new PointSummaryIndex(pointHistoryRepository, builder.pointSummaryProperties);
+        pointMetrics = new PointMetrics(builder.meterRegistry != null ? builder.meterRegistry : new SimpleMeterRegistry(), userPointCache, userLockManager);
+        pointWriteAheadLog = new PointWriteAheadLog(builder.pointWalProperties);
+
+        pointWriteBehindQueue = new PointWriteBehindQueue(builder.pointWriteBehindProperties);
+        pointBatchCommitter = new PointBatchCommitter(userPointRepository, pointHistoryRepository, userLockManager, userPointCache, pointHistoryIndex, pointSummaryIndex, pointMetrics, pointWriteAheadLog, builder.pointBatchProperties);
+        optimisticPointCommitter = new OptimisticPointCommitter(userPointRepository, pointHistoryRepository, userLockManager, userPointCache, pointHistoryIndex, pointSummaryIndex, pointMetrics, pointWriteAheadLog, builder.optimisticPointProperties);
+        pointMailboxCommitter = new PointMailboxCommitter(userPointRepository, pointHistoryRepository, userLockManager, userPointCache, pointHistoryIndex, pointSummaryIndex, pointMetrics, pointWriteAheadLog, builder.pointMailboxProperties);
+        pointHotUserDetector = new PointHotUserDetector(builder.pointHotUserProperties);
+
+        PointCommitModes pointCommitModes = new PointCommitModes(pointWriteBehindQueue, pointBatchCommitter, optimisticPointCommitter, pointMailboxCommitter, pointHotUserDetector);
+        pointService = new PointService(userPointRepository, pointHistoryRepository, userLockManager, pointCommitModes, userPointCache, pointHistoryIndex, pointSummaryIndex, pointMetrics, pointWriteAheadLog);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    UserPointRepository userPointRepository() {
+        return userPointRepository;
+    }
+
+    PointHistoryRepository pointHistoryRepository() {
+        return pointHistoryRepository;
+    }
+
+    UserLockManager userLockManager() {
+        return userLockManager;
+    }
+
+    UserPointCache userPointCache() {
+        return userPointCache;
+    }
+
+    PointHistoryIndex pointHistoryIndex() {
+        return pointHistoryIndex;
+    }
+
+    PointWriteAheadLog pointWriteAheadLog() {
+        return pointWriteAheadLog;
+    }
+
+    PointWriteBehindQueue pointWriteBehindQueue() {
+        return pointWriteBehindQueue;
+    }
+
+    PointBatchCommitter pointBatchCommitter() {
+        return pointBatchCommitter;
+    }
+
+    OptimisticPointCommitter optimisticPointCommitter() {
+        return optimisticPointCommitter;
+    }
+
+    PointMailboxCommitter pointMailboxCommitter() {
+        return pointMailboxCommitter;
+    }
+
+    PointHotUserDetector pointHotUserDetector() {
+        return pointHotUserDetector;
+    }
+
+    PointService pointService() {
+        return pointService;
+    }
+
+    /**
+     * 스레드를 사용하는 구현을 모두 종료한다. 비활성화된 구현은 바로 반환한다.
+     */
+    void shutdown() throws InterruptedException {
+        pointWriteBehindQueue.shutdown();
+        optimisticPointCommitter.shutdown();
+        pointMailboxCommitter.shutdown();
+        pointWriteAheadLog.shutdown();
+    }
+
+    static final class Builder {
+
+        private UserPointRepository userPointRepository;
+        private PointHistoryRepository pointHistoryRepository;
+        private UserLockManager userLockManager;
+        private MeterRegistry meterRegistry;
+        private UserPointCacheProperties userPointCacheProperties = UserPointCacheProperties.disabled();
+        private PointHistoryIndexProperties pointHistoryIndexProperties = PointHistoryIndexProperties.disabled();
+        private PointSummaryProperties pointSummaryProperties = PointSummaryProperties.disabled();
+        private PointWalProperties pointWalProperties = PointWalProperties.disabled();
+        private PointWriteBehindProperties pointWriteBehindProperties = PointWriteBehindProperties.disabled();
+        private PointBatchProperties pointBatchProperties = PointBatchProperties.disabled();
+        private OptimisticPointProperties optimisticPointProperties = OptimisticPointProperties.disabled();
+        private PointMailboxProperties pointMailboxProperties = PointMailboxProperties.disabled();
+        private PointHotUserProperties pointHotUserProperties = PointHotUserProperties.disabled();
+
+        private Builder() {
+        }
+
+        Builder userPointRepository(UserPointRepository userPointRepository) {
+            this.userPointRepository = userPointRepository;
+            return this;
+        }
+
+        Builder pointHistoryRepository(PointHistoryRepository pointHistoryRepository) {
+            this.pointHistoryRepository = pointHistoryRepository;
+            return this;
+        }
+
+        Builder userLockManager(UserLockManager userLockManager) {
+            this.userLockManager = userLockManager;
+            return this;
+        }
+
+        Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        Builder userPointCache(UserPointCacheProperties properties) {
+            this.userPointCacheProperties = properties;
+            return this;
+        }
+
+        Builder pointHistoryIndex(PointHistoryIndexProperties properties) {
+            this.pointHistoryIndexProperties = properties;
+            return this;
+        }
+
+        Builder pointSummary(PointSummaryProperties properties) {
+            this.pointSummaryProperties = properties;
+            return this;
+        }
+
+        Builder pointWal(PointWalProperties properties) {
+            this.pointWalProperties = properties;
+            return this;
+        }
+
+        Builder writeBehind(PointWriteBehindProperties properties) {
+            this.pointWriteBehindProperties = properties;
+            return this;
+        }
+
+        Builder batch(PointBatchProperties properties) {
+            this.pointBatchProperties = properties;
+            return this;
+        }
+
+        Builder optimistic(OptimisticPointProperties properties) {
+            this.optimisticPointProperties = properties;
+            return this;
+        }
+
+        Builder mailbox(PointMailboxProperties properties) {
+            this.pointMailboxProperties = properties;
+            return this;
+        }
+
+        Builder hotUser(PointHotUserProperties properties) {
+            this.pointHotUserProperties = properties;
+            return this;
+        }
+
+        PointServiceFixture build() {
+            return new PointServiceFixture(this);
+        }
+    }
+}
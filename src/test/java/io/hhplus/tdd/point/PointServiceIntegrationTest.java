@@ -1,33 +1,40 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
 class PointServiceIntegrationTest {
 
-    UserPointTable userPointTable;
-    PointHistoryTable pointHistoryTable;
-    UserLockManager userLockManager;
+    PointServiceFixture fixture;
+    UserPointRepository userPointRepository;
+    PointHistoryRepository pointHistoryRepository;
     PointService pointService;
 
     @BeforeEach
     void before() {
-        userPointTable = new UserPointTable();
-        pointHistoryTable = new PointHistoryTable();
-        userLockManager = new UserLockManager();
-        pointService = new PointService(userPointTable, pointHistoryTable, userLockManager);
+        use(fixture().build());
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        fixture.shutdown();
     }
 
     @Nested
@@ -37,7 +44,7 @@ class PointServiceIntegrationTest {
         void 특정_유저의_유저_포인트가_존재할_때_유저_포인트_조회_시_해당_유저의_유저_포인트_반환() {
 
             //given
-            userPointTable.insertOrUpdate(1L, 1000L);
+            userPointRepository.insertOrUpdate(1L, 1000L);
 
             //when
             UserPoint result = pointService.getUserPointById(1L);
@@ -67,10 +74,10 @@ class PointServiceIntegrationTest {
         void 특정_유저의_포인트_내역이_존재할_때_포인트_내역_조회_시_해당_유저의_포인트_내역_목록_반환() {
 
             //given
-            pointHistoryTable.insert(1L, 1000L, TransactionType.CHARGE, 1L);
-            pointHistoryTable.insert(1L, 1000L, TransactionType.CHARGE, 1L);
-            pointHistoryTable.insert(1L, 1000L, TransactionType.USE, 1L);
-            pointHistoryTable.insert(2L, 1000L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.USE, 1L);
+            pointHistoryRepository.insert(2L, 1000L, TransactionType.CHARGE, 1L);
 
             //when
             List<PointHistory> result = pointService.getPointHistoriesByUserId(1L);
@@ -105,7 +112,7 @@ class PointServiceIntegrationTest {
         void 특정_유저의_유저_포인트가_존재할_때_포인트_충전_시_해당_유저의_잔고에_충전_금액을_더한_유저_포인트_반환() {
 
             //given
-            userPointTable.insertOrUpdate(1L, 1000L);
+            userPointRepository.insertOrUpdate(1L, 1000L);
 
             //when
             UserPoint result = pointService.charge(1L, 1000L);
@@ -119,16 +126,16 @@ class PointServiceIntegrationTest {
         void 특정_유저의_유저_포인트와_포인트_내역이_존재할_때_포인트_충전_시_충전된_유저_포인트와_함꼐_포인트_충전_내역_정상적으로_저장() {
 
             //given
-            UserPoint userPoint = userPointTable.insertOrUpdate(1L, 1000L);
-            PointHistory pointHistory = pointHistoryTable.insert(1L, 1000L, TransactionType.CHARGE, userPoint.updateMillis());
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 1000L);
+            PointHistory pointHistory = pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, userPoint.updateMillis());
 
             //when
             UserPoint result = pointService.charge(1L, 1000L);
 
             //then
-            assertThat(userPointTable.selectById(1L))
+            assertThat(userPointRepository.selectById(1L))
                     .isEqualTo(new UserPoint(1L, 2000L, result.updateMillis()));
-            assertThat(pointHistoryTable.selectAllByUserId(1L))
+            assertThat(pointHistoryRepository.selectAllByUserId(1L))
                     .hasSize(2)
                     .isEqualTo(List.of(
                             pointHistory,
@@ -144,7 +151,7 @@ class PointServiceIntegrationTest {
         void 특정_유저의_유저_포인트가_존재할_때_포인트_사용_시_해당_유저의_잔고에_사용_금액을_뺀_유저_포인트_반환() {
 
             //given
-            userPointTable.insertOrUpdate(1L, 2000L);
+            userPointRepository.insertOrUpdate(1L, 2000L);
 
             //when
             UserPoint result = pointService.use(1L, 1000L);
@@ -158,16 +165,16 @@ class PointServiceIntegrationTest {
         void 특정_유저의_유저_포인트와_포인트_내역_존재할_때_포인트_사용_시_사용한_유저_포인트와_함꼐_포인트_사용_내역_정상적으로_저장() {
 
             //given
-            UserPoint userPoint = userPointTable.insertOrUpdate(1L, 2000L);
-            PointHistory pointHistory = pointHistoryTable.insert(1L, 2000L, TransactionType.CHARGE, userPoint.updateMillis());
+            UserPoint userPoint = userPointRepository.insertOrUpdate(1L, 2000L);
+            PointHistory pointHistory = pointHistoryRepository.insert(1L, 2000L, TransactionType.CHARGE, userPoint.updateMillis());
 
             //when
             UserPoint result = pointService.use(1L, 1000L);
 
             //then
-            assertThat(userPointTable.selectById(1L))
+            assertThat(userPointRepository.selectById(1L))
                     .isEqualTo(new UserPoint(1L, 1000L, result.updateMillis()));
-            assertThat(pointHistoryTable.selectAllByUserId(1L))
+            assertThat(pointHistoryRepository.selectAllByUserId(1L))
                     .hasSize(2)
                     .isEqualTo(List.of(
                             pointHistory,
@@ -285,4 +292,263 @@ class PointServiceIntegrationTest {
             assertThat(pointService.getPointHistoriesByUserId(1L)).hasSize(threadCount + 1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 쓰기_지연_모드 {
+
+        @BeforeEach
+        void before() {
+            use(fixture().writeBehind(new PointWriteBehindProperties(true, 100, 1000L, 4)).build());
+        }
+
+        @Test
+        void 포인트_충전_시_테이블_저장_전이라도_충전된_유저_포인트_조회() {
+
+            //when
+            UserPoint result = pointService.charge(1L, 1000L);
+
+            //then
+            assertThat(pointService.getUserPointById(1L)).isEqualTo(result);
+        }
+
+        @Test
+        void 특정_유저_충전_요청이_동시에_들어왔을_때_저장_완료_후_모든_요청이_테이블에_반영() throws InterruptedException {
+
+            //given
+            int threadCount = 20;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    pointService.charge(1L, 1000L);
+                    countDownLatch.countDown();
+                });
+            }
+
+            countDownLatch.await();
+            fixture.pointWriteBehindQueue().flush(TimeUnit.SECONDS.toMillis(30));
+
+            //then
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(1000L * threadCount);
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).hasSize(threadCount);
+        }
+    }
+
+    @Nested
+    class 메일박스_모드 {
+
+        @BeforeEach
+        void before() {
+            use(fixture().mailbox(new PointMailboxProperties(true, 4, 1000, 64)).build());
+        }
+
+        @Test
+        void 특정_유저_충전_요청이_동시에_들어왔을_때_모든_요청이_반영된_유저_포인트와_포인트_내역_저장() throws InterruptedException {
+
+            //given
+            int threadCount = 20;
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    pointService.charge(1L, 1000L);
+                    countDownLatch.countDown();
+                });
+            }
+
+            countDownLatch.await();
+
+            //then
+            assertThat(pointService.getUserPointById(1L).point()).isEqualTo(1000L * threadCount);
+            assertThat(pointService.getPointHistoriesByUserId(1L)).hasSize(threadCount);
+        }
+
+        @Test
+        void 사용_가능한_금액을_초과한_사용_요청만_실패하고_잔고는_그대로_유지() {
+
+            //given
+            pointService.charge(1L, 1000L);
+
+            //when
+            assertThatThrownBy(() -> pointService.use(1L, 2000L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("사용 가능한 금액을 초과하였습니다.");
+            UserPoint result = pointService.use(1L, 300L);
+
+            //then
+            assertThat(result.point()).isEqualTo(700L);
+            assertThat(pointService.getPointHistoriesByUserId(1L))
+                    .extracting(PointHistory::type)
+                    .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        }
+    }
+
+    @Nested
+    class 요청이_몰린_유저_감지_모드 {
+
+        @BeforeEach
+        void before() {
+            use(fixture().hotUser(new PointHotUserProperties(true, 2, 1L, 60000L)).build());
+        }
+
+        @Test
+        void 특정_유저_충전_사용_요청이_동시에_들어와_묶음_처리로_전환되어도_모든_요청이_반영된_유저_포인트와_포인트_내역_저장() throws InterruptedException {
+
+            //given
+            int threadCount = 40;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+            pointService.charge(1L, 100000L);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                boolean charge = i % 2 == 0;
+                executorService.execute(() -> {
+                    try {
+                        if (charge) {
+                            pointService.charge(1L, 1000L);
+                        } else {
+                            pointService.use(1L, 300L);
+                        }
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+
+            //then
+            assertThat(pointService.getUserPointById(1L).point()).isEqualTo(100000L + (1000L - 300L) * threadCount / 2);
+            assertThat(pointService.getPointHistoriesByUserId(1L)).hasSize(threadCount + 1);
+        }
+
+        @Test
+        void 묶음_처리_중에도_사용_가능한_금액을_초과한_사용_요청만_실패() {
+
+            //given
+            fixture.pointHotUserDetector().enter(1L);
+            fixture.pointHotUserDetector().enter(1L);
+            pointService.charge(1L, 1000L);
+
+            //when
+            assertThatThrownBy(() -> pointService.use(1L, 2000L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            UserPoint result = pointService.use(1L, 300L);
+
+            //then
+            assertThat(result.point()).isEqualTo(700L);
+            assertThat(fixture.pointHotUserDetector().hotUsers()).extracting(PointHotUser::userId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    class 유저_포인트_캐시_모드 {
+
+        @BeforeEach
+        void before() {
+            use(fixture().userPointCache(new UserPointCacheProperties(true, 100, 60000L)).build());
+        }
+
+        @Test
+        void 포인트_충전_후_유저_포인트_조회_시_캐시에서_충전된_유저_포인트_반환() {
+
+            //given
+            UserPoint charged = pointService.charge(1L, 1000L);
+
+            //when
+            UserPoint result = pointService.getUserPointById(1L);
+
+            //then
+            assertThat(result).isEqualTo(charged);
+            assertThat(fixture.userPointCache().stats().hitCount()).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    class 포인트_로그_모드 {
+
+        @TempDir
+        Path directory;
+
+        @BeforeEach
+        void before() {
+            use(walFixture().build());
+        }
+
+        @Test
+        void 포인트_충전_사용_성공_시에만_로그에_기록() {
+
+            //given
+            pointService.charge(1L, 1000L);
+            pointService.use(1L, 300L);
+
+            //when
+            assertThatThrownBy(() -> pointService.use(1L, 1000L))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            //then
+            List<PointWalRecord> records = new ArrayList<>();
+            fixture.pointWriteAheadLog().replay(0L, records::add);
+            assertThat(records)
+                    .extracting(PointWalRecord::userId, PointWalRecord::type, PointWalRecord::amount)
+                    .containsExactly(
+                            tuple(1L, TransactionType.CHARGE, 1000L),
+                            tuple(1L, TransactionType.USE, 300L)
+                    );
+        }
+
+        @Test
+        void 묶음_처리_모드에서도_반영된_요청마다_로그에_기록하고_로그_합계가_잔고와_일치() throws InterruptedException {
+
+            //given
+            fixture.shutdown();
+            use(walFixture().batch(new PointBatchProperties(true, 100)).build());
+            int threadCount = 20;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    pointService.charge(1L, 100L);
+                    countDownLatch.countDown();
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+
+            //then
+            List<PointWalRecord> records = new ArrayList<>();
+            fixture.pointWriteAheadLog().replay(0L, records::add);
+            assertThat(records).hasSize(threadCount);
+            assertThat(records.stream().mapToLong(PointWalRecord::signedAmount).sum())
+                    .isEqualTo(userPointRepository.selectById(1L).point());
+        }
+
+        private PointServiceFixture.Builder walFixture() {
+            return fixture().pointWal(new PointWalProperties(true, directory.toString(), 1 << 20, PointWalFsyncMode.BATCH, 100L));
+        }
+    }
+
+    private PointServiceFixture.Builder fixture() {
+        return PointServiceFixture.builder()
+                .pointHistoryIndex(new PointHistoryIndexProperties(true))
+                .pointSummary(new PointSummaryProperties(true, 30));
+    }
+
+    private void use(PointServiceFixture fixture) {
+        this.fixture = fixture;
+        userPointRepository = fixture.userPointRepository();
+        pointHistoryRepository = fixture.pointHistoryRepository();
+        pointService = fixture.pointService();
+    }
+}
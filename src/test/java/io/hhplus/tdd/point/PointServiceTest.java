@@ -1,7 +1,8 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,11 +21,27 @@ import static org.mockito.Mockito.*;
 class PointServiceTest {
 
     @Mock
-    UserPointTable userPointTable;
+    UserPointRepository userPointRepository;
     @Mock
-    PointHistoryTable pointHistoryTable;
+    PointHistoryRepository pointHistoryRepository;
     @Mock
     UserLockManager userLockManager;
+    @Mock
+    PointCommitModes pointCommitModes;
+    @Mock
+    UserPointCache userPointCache;
+    @Mock
+    PointHistoryIndex pointHistoryIndex;
+    @Mock
+    PointSummaryIndex pointSummaryIndex;
+    @Mock
+    PointMetrics pointMetrics;
+    @Mock
+    PointWriteAheadLog pointWriteAheadLog;
+    @Mock
+    PointBatchCommitter pointBatchCommitter;
+    @Mock
+    PointHotUserDetector pointHotUserDetector;
     @InjectMocks
     PointService pointService;
 
@@ -31,6 +49,11 @@ class PointServiceTest {
     private static final TransactionType ANY_TRANSACTION_TYPE = TransactionType.CHARGE;
     private static final long ANY_UPDATE_MILLIS = 1L;
 
+    @BeforeEach
+    void before() {
+        lenient().when(pointCommitModes.mode()).thenReturn(PointCommitMode.LOCK);
+    }
+
     @Nested
     class 유저_포인트_조회 {
 
@@ -38,7 +61,7 @@ class PointServiceTest {
         void 특정_유저_포인트_정상적으로_반환() {
 
             //given
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, ANY_AMOUNT, ANY_UPDATE_MILLIS));
 
             //when
@@ -55,7 +78,7 @@ class PointServiceTest {
             pointService.getUserPointById(1L);
 
             //then
-            verify(userPointTable, times(1)).selectById(1L);
+            verify(userPointRepository, times(1)).selectById(1L);
         }
     }
 
@@ -72,7 +95,7 @@ class PointServiceTest {
                     new PointHistory(3L, 1L, ANY_AMOUNT, ANY_TRANSACTION_TYPE, ANY_UPDATE_MILLIS)
             );
 
-            when(pointHistoryTable.selectAllByUserId(1L))
+            when(pointHistoryRepository.selectAllByUserId(1L))
                     .thenReturn(pointHistories);
 
             //when
@@ -90,7 +113,7 @@ class PointServiceTest {
             pointService.getPointHistoriesByUserId(1L);
 
             //then
-            verify(pointHistoryTable, times(1)).selectAllByUserId(1L);
+            verify(pointHistoryRepository, times(1)).selectAllByUserId(1L);
         }
     }
 
@@ -103,14 +126,14 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenThrow(new RuntimeException());
 
             //when, then
             assertThatThrownBy(() -> pointService.charge(1L, 1000L))
                     .isInstanceOf(RuntimeException.class);
-            verify(userPointTable, times(0)).insertOrUpdate(1L, ANY_AMOUNT + 1000L);
-            verify(pointHistoryTable, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            verify(userPointRepository, times(0)).insertOrUpdate(1L, ANY_AMOUNT + 1000L);
+            verify(pointHistoryRepository, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
         }
 
         @Test
@@ -119,15 +142,35 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 2000L))
+            when(userPointRepository.insertOrUpdate(1L, 2000L))
                     .thenThrow(new RuntimeException());
 
             //when, then
             assertThatThrownBy(() -> pointService.charge(1L, 1000L))
                     .isInstanceOf(RuntimeException.class);
-            verify(pointHistoryTable, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            verify(pointHistoryRepository, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+        }
+
+        @Test
+        void 로그_기록_실패_시_유저_포인트_저장과_포인트_내역_저장_요청이_발생하지_않음() {
+
+            //given
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            when(pointWriteAheadLog.isEnabled())
+                    .thenReturn(true);
+            when(pointWriteAheadLog.append(eq(1L), eq(TransactionType.CHARGE), eq(1000L), anyLong()))
+                    .thenThrow(new PointUnavailableException("포인트 로그 기록에 실패했습니다."));
+
+            //when, then
+            assertThatThrownBy(() -> pointService.charge(1L, 1000L))
+                    .isInstanceOf(PointUnavailableException.class);
+            verify(userPointRepository, times(0)).insertOrUpdate(anyLong(), anyLong());
+            verify(pointHistoryRepository, times(0)).insert(anyLong(), anyLong(), any(), anyLong());
         }
 
         @Test
@@ -136,9 +179,9 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 2000L))
+            when(userPointRepository.insertOrUpdate(1L, 2000L))
                     .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
 
             //when
@@ -152,9 +195,9 @@ class PointServiceTest {
         void 유저_포인트_업데이트와_포인트_내역_저장_정상적으로_요청() {
 
             //given
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 2000L))
+            when(userPointRepository.insertOrUpdate(1L, 2000L))
                     .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
@@ -163,8 +206,59 @@ class PointServiceTest {
             UserPoint result = pointService.charge(1L, 1000L);
 
             //then
-            verify(userPointTable, times(1)).insertOrUpdate(1L, ANY_AMOUNT + 1000L);
-            verify(pointHistoryTable, times(1)).insert(1L, 1000L, TransactionType.CHARGE, result.updateMillis());
+            verify(userPointRepository, times(1)).insertOrUpdate(1L, ANY_AMOUNT + 1000L);
+            verify(pointHistoryRepository, times(1)).insert(1L, 1000L, TransactionType.CHARGE, result.updateMillis());
+        }
+
+        @Test
+        void 충전_성공_시_성공_결과_지표_기록() {
+
+            //given
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            when(userPointRepository.insertOrUpdate(1L, 2000L))
+                    .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+
+            //when
+            pointService.charge(1L, 1000L);
+
+            //then
+            verify(pointMetrics, times(1)).recordOutcome(TransactionType.CHARGE, PointOutcome.SUCCESS);
+            verify(pointMetrics, times(1)).recordSelectById(anyLong());
+            verify(pointMetrics, times(1)).recordInsertOrUpdate(anyLong());
+            verify(pointMetrics, times(1)).recordHistoryInsert(anyLong());
+        }
+
+        @Test
+        void 최대_한도_초과_충전_시_한도_초과_결과_지표_기록() {
+
+            //given
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, 200000L, ANY_UPDATE_MILLIS));
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+
+            //when, then
+            assertThatThrownBy(() -> pointService.charge(1L, 1000L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(pointMetrics, times(1)).recordOutcome(TransactionType.CHARGE, PointOutcome.OVER_LIMIT);
+        }
+
+        @Test
+        void 금액이_0_이하인_충전_시_금액_오류_결과_지표_기록() {
+
+            //given
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, ANY_AMOUNT, ANY_UPDATE_MILLIS));
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+
+            //when, then
+            assertThatThrownBy(() -> pointService.charge(1L, 0L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(pointMetrics, times(1)).recordOutcome(TransactionType.CHARGE, PointOutcome.INVALID_AMOUNT);
         }
     }
 
@@ -177,14 +271,14 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenThrow(new RuntimeException());
 
             //when, then
             assertThatThrownBy(() -> pointService.use(1L, 1000L))
                     .isInstanceOf(RuntimeException.class);
-            verify(userPointTable, times(0)).insertOrUpdate(1L, ANY_AMOUNT - 1000L);
-            verify(pointHistoryTable, times(0)).insert(1L, 1000L, TransactionType.USE, ANY_UPDATE_MILLIS);
+            verify(userPointRepository, times(0)).insertOrUpdate(1L, ANY_AMOUNT - 1000L);
+            verify(pointHistoryRepository, times(0)).insert(1L, 1000L, TransactionType.USE, ANY_UPDATE_MILLIS);
         }
 
         @Test
@@ -193,15 +287,15 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 1000L))
+            when(userPointRepository.insertOrUpdate(1L, 1000L))
                     .thenThrow(new RuntimeException());
 
             //when, then
             assertThatThrownBy(() -> pointService.use(1L, 1000L))
                     .isInstanceOf(RuntimeException.class);
-            verify(pointHistoryTable, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
+            verify(pointHistoryRepository, times(0)).insert(1L, 1000L, TransactionType.CHARGE, ANY_UPDATE_MILLIS);
         }
 
         @Test
@@ -210,9 +304,9 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 1000L))
+            when(userPointRepository.insertOrUpdate(1L, 1000L))
                     .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
 
             //when
@@ -228,17 +322,87 @@ class PointServiceTest {
             //given
             when(userLockManager.getLock(1L))
                     .thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(1L))
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
+            when(userPointRepository.insertOrUpdate(1L, 1000L))
+                    .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            UserPoint result = pointService.use(1L, 1000L);
+
+            //then
+            verify(userPointRepository, times(1)).insertOrUpdate(1L, 1000L);
+            verify(pointHistoryRepository, times(1)).insert(1L, 1000L, TransactionType.USE, result.updateMillis());
+        }
+
+        @Test
+        void 잔고를_초과한_사용_시_잔고_부족_결과_지표_기록() {
+
+            //given
+            when(userPointRepository.selectById(1L))
+                    .thenReturn(new UserPoint(1L, ANY_AMOUNT, ANY_UPDATE_MILLIS));
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+
+            //when, then
+            assertThatThrownBy(() -> pointService.use(1L, ANY_AMOUNT + 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(pointMetrics, times(1)).recordOutcome(TransactionType.USE, PointOutcome.INSUFFICIENT_BALANCE);
+        }
+    }
+
+    @Nested
+    class 요청이_몰린_유저 {
+
+        @Test
+        void 요청이_몰린_유저의_충전은_묶음_처리로_요청하고_락_대기_시간_기록() {
+
+            //given
+            useHotUserMode();
+            when(pointCommitModes.batchCommitter()).thenReturn(pointBatchCommitter);
+            when(pointHotUserDetector.enter(1L)).thenReturn(true);
+            when(pointBatchCommitter.commit(eq(1L), eq(1000L), eq(TransactionType.CHARGE), any()))
+                    .thenAnswer(invocation -> {
+                        invocation.<LongConsumer>getArgument(3).accept(5L);
+                        return new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS);
+                    });
+
+            //when
+            UserPoint result = pointService.charge(1L, 1000L);
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
+            verify(userLockManager, never()).getLock(1L);
+            verify(pointHotUserDetector).recordLockWait(1L, 5L);
+            verify(pointHotUserDetector).exit(1L);
+        }
+
+        @Test
+        void 요청이_몰리지_않은_유저의_사용은_유저_락_방식으로_처리하고_락_대기_시간_기록() {
+
+            //given
+            useHotUserMode();
+            when(pointHotUserDetector.enter(1L)).thenReturn(false);
+            when(userLockManager.getLock(1L))
+                    .thenReturn(new ReentrantLock());
+            when(userPointRepository.selectById(1L))
                     .thenReturn(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
-            when(userPointTable.insertOrUpdate(1L, 1000L))
+            when(userPointRepository.insertOrUpdate(1L, 1000L))
                     .thenReturn(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
 
             //when
             UserPoint result = pointService.use(1L, 1000L);
 
             //then
-            verify(userPointTable, times(1)).insertOrUpdate(1L, 1000L);
-            verify(pointHistoryTable, times(1)).insert(1L, 1000L, TransactionType.USE, result.updateMillis());
+            assertThat(result).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            verify(pointBatchCommitter, never()).commit(anyLong(), anyLong(), any(), any());
+            verify(pointHotUserDetector).recordLockWait(eq(1L), anyLong());
+            verify(pointHotUserDetector).exit(1L);
         }
     }
-}
\ No newline at end of file
+
+    private void useHotUserMode() {
+        when(pointCommitModes.mode()).thenReturn(PointCommitMode.HOT_USER);
+        when(pointCommitModes.hotUserDetector()).thenReturn(pointHotUserDetector);
+    }
+}
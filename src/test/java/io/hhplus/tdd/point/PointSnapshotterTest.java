@@ -0,0 +1,203 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointSnapshotterTest {
+
+    private static final long RECORDS_PER_SEGMENT = 10L;
+
+    @TempDir
+    Path directory;
+
+    PointWalProperties walProperties;
+    PointWriteAheadLog pointWriteAheadLog;
+    PointSnapshotter pointSnapshotter;
+
+    @BeforeEach
+    void before() {
+        walProperties = new PointWalProperties(true, directory.toString(), PointWriteAheadLog.HEADER_BYTES + PointWriteAheadLog.RECORD_BYTES * RECORDS_PER_SEGMENT, PointWalFsyncMode.BATCH, 100L);
+        pointWriteAheadLog = new PointWriteAheadLog(walProperties);
+        pointSnapshotter = new PointSnapshotter(pointWriteAheadLog, walProperties, new PointSnapshotProperties(true, 60000L, 1));
+    }
+
+    @AfterEach
+    void after() throws InterruptedException {
+        pointSnapshotter.shutdown();
+        pointWriteAheadLog.shutdown();
+    }
+
+    @Nested
+    class 스냅샷_저장 {
+
+        @Test
+        void 기록이_끝난_세그먼트까지의_잔고를_유저별로_합산해_저장() {
+
+            //given
+            for (int i = 0; i < 25; i++) {
+                pointWriteAheadLog.append(i % 2, TransactionType.CHARGE, 100L, i);
+            }
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.takeSnapshot();
+
+            //then
+            assertThat(snapshot.lsn()).isEqualTo(20L);
+            assertThat(snapshot.balances().get(0L)).isEqualTo(new PointSnapshot.Balance(1000L, 18L));
+            assertThat(snapshot.balances().get(1L)).isEqualTo(new PointSnapshot.Balance(1000L, 19L));
+        }
+
+        @Test
+        void 스냅샷에_반영된_세그먼트와_오래된_스냅샷은_삭제() throws IOException {
+
+            //given
+            for (int i = 0; i < 25; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            for (int i = 0; i < 10; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.USE, 100L, i);
+            }
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.takeSnapshot();
+
+            //then
+            assertThat(snapshot.lsn()).isEqualTo(30L);
+            assertThat(snapshot.balances().get(1L).point()).isEqualTo(2000L);
+            assertThat(fileNames()).containsExactly(
+                    "snapshot-00000000000000000030.snap",
+                    "wal-00000000000000000031.log"
+            );
+        }
+
+        @Test
+        void 새로_기록이_끝난_세그먼트가_없으면_저장하지_않음() {
+
+            //given
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, 1L);
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.takeSnapshot();
+
+            //then
+            assertThat(snapshot).isNull();
+            assertThat(pointSnapshotter.loadLatest()).isEqualTo(PointSnapshot.empty());
+        }
+    }
+
+    @Nested
+    class 스냅샷_조회 {
+
+        @Test
+        void 스냅샷과_이후_로그를_합치면_전체_잔고와_같음() {
+
+            //given
+            for (int i = 0; i < 25; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.loadLatest();
+            long[] balance = {snapshot.balances().get(1L).point()};
+            pointWriteAheadLog.replay(snapshot.lsn(), record -> balance[0] += record.signedAmount());
+
+            //then
+            assertThat(balance[0]).isEqualTo(2500L);
+        }
+
+        @Test
+        void 손상된_스냅샷은_건너뛰고_이전_스냅샷_반환() throws IOException {
+
+            //given
+            pointSnapshotter = new PointSnapshotter(pointWriteAheadLog, walProperties, new PointSnapshotProperties(true, 60000L, 2));
+            for (int i = 0; i < 15; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            for (int i = 0; i < 10; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            try (RandomAccessFile file = new RandomAccessFile(directory.resolve("snapshot-00000000000000000020.snap").toFile(), "rw")) {
+                file.seek(file.length() - 1);
+                file.write(0x7F);
+            }
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.loadLatest();
+
+            //then
+            assertThat(snapshot.lsn()).isEqualTo(10L);
+            assertThat(snapshot.balances().get(1L).point()).isEqualTo(1000L);
+        }
+
+        @Test
+        void 이전_스냅샷으로_복구해도_이후_로그가_남아_있어_전체_잔고와_같음() throws IOException {
+
+            //given
+            pointSnapshotter = new PointSnapshotter(pointWriteAheadLog, walProperties, new PointSnapshotProperties(true, 60000L, 2));
+            for (int i = 0; i < 15; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            for (int i = 0; i < 20; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            try (RandomAccessFile file = new RandomAccessFile(directory.resolve("snapshot-00000000000000000030.snap").toFile(), "rw")) {
+                file.seek(file.length() - 1);
+                file.write(0x7F);
+            }
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.loadLatest();
+            long[] balance = {snapshot.balances().get(1L).point()};
+            pointWriteAheadLog.replay(snapshot.lsn(), record -> balance[0] += record.signedAmount());
+
+            //then
+            assertThat(snapshot.lsn()).isEqualTo(10L);
+            assertThat(balance[0]).isEqualTo(3500L);
+        }
+
+        @Test
+        void 스냅샷에_반영되어_삭제된_로그를_재생하려_하면_IllegalStateException_발생() throws IOException {
+
+            //given
+            for (int i = 0; i < 25; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, i);
+            }
+            pointSnapshotter.takeSnapshot();
+            Files.delete(directory.resolve("snapshot-00000000000000000020.snap"));
+
+            //when
+            PointSnapshot snapshot = pointSnapshotter.loadLatest();
+
+            //then
+            assertThat(snapshot).isEqualTo(PointSnapshot.empty());
+            assertThatThrownBy(() -> pointWriteAheadLog.replay(snapshot.lsn(), record -> {
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("빠진 구간");
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointSummaryIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 10);
+
+    PointHistoryRepository pointHistoryRepository;
+    PointSummaryIndex pointSummaryIndex;
+
+    @BeforeEach
+    void before() {
+        pointHistoryRepository = new ColumnarPointHistoryRepository();
+        pointSummaryIndex = new PointSummaryIndex(pointHistoryRepository, new PointSummaryProperties(true, 2));
+    }
+
+    @Nested
+    class 유저별_요약_조회 {
+
+        @Test
+        void 조회된_적_없는_유저도_기록된_포인트_내역으로_타입별_건수와_금액_합계를_반환() {
+
+            //given
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY)));
+            pointSummaryIndex.record(pointHistoryRepository.insert(2L, 5000L, TransactionType.CHARGE, millis(DAY)));
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 300L, TransactionType.USE, millis(DAY) + 10L));
+
+            //when
+            PointSummary result = pointSummaryIndex.find(1L);
+
+            //then
+            assertThat(result.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1L, 1000L));
+            assertThat(result.totals().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(1L, 300L));
+            assertThat(result.lastActivityMillis()).isEqualTo(millis(DAY) + 10L);
+        }
+
+        @Test
+        void 조회_시_테이블을_읽지_않고_기록되지_않은_유저는_빈_요약을_반환() {
+
+            //given
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY));
+
+            //when
+            PointSummary result = pointSummaryIndex.find(1L);
+
+            //then
+            assertThat(result.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(0L, 0L));
+            assertThat(result.lastActivityMillis()).isZero();
+            assertThat(result.days()).isEmpty();
+        }
+
+        @Test
+        void 조회_이후_기록된_포인트_내역은_한_번씩만_요약에_반영() {
+
+            //given
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY)));
+            pointSummaryIndex.find(1L);
+
+            //when
+            PointHistory pointHistory = pointHistoryRepository.insert(1L, 500L, TransactionType.CHARGE, millis(DAY));
+            pointSummaryIndex.record(pointHistory);
+            pointSummaryIndex.record(pointHistory);
+            PointSummary result = pointSummaryIndex.find(1L);
+
+            //then
+            assertThat(result.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2L, 1500L));
+        }
+
+        @Test
+        void 일별_요약은_마지막_활동일부터_보관_기간만큼만_남김() {
+
+            //given
+            pointSummaryIndex.find(1L);
+
+            //when
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY)));
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 2000L, TransactionType.CHARGE, millis(DAY.plusDays(1))));
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 300L, TransactionType.USE, millis(DAY.plusDays(2))));
+            PointSummary result = pointSummaryIndex.find(1L);
+
+            //then
+            assertThat(result.days())
+                    .extracting(PointDailySummary::date)
+                    .containsExactly(DAY.plusDays(1), DAY.plusDays(2));
+            assertThat(result.days().get(1).totals().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(1L, 300L));
+            assertThat(result.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2L, 3000L));
+        }
+
+        @Test
+        void 음수_유저_아이디로_조회_시_IllegalArgumentException_발생() {
+
+            //when //then
+            assertThatThrownBy(() -> pointSummaryIndex.find(-1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 요약이_비활성화된_경우_조회_시_PointUnavailableException_발생() {
+
+            //given
+            pointSummaryIndex = new PointSummaryIndex(pointHistoryRepository, PointSummaryProperties.disabled());
+
+            //when //then
+            assertThatThrownBy(() -> pointSummaryIndex.find(1L))
+                    .isInstanceOf(PointUnavailableException.class);
+        }
+    }
+
+    @Nested
+    class 유저별_요약_재계산 {
+
+        @Test
+        void 기록되지_않은_포인트_내역이_있으면_불일치로_반환하고_내역_기준으로_다시_계산() {
+
+            //given
+            pointSummaryIndex.find(1L);
+            pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY));
+
+            //when
+            PointSummaryRebuild result = pointSummaryIndex.rebuild(1L);
+
+            //then
+            assertThat(result.consistent()).isFalse();
+            assertThat(result.before().totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(0L, 0L));
+            assertThat(result.after().totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1L, 1000L));
+            assertThat(pointSummaryIndex.find(1L)).isEqualTo(result.after());
+        }
+
+        @Test
+        void 모든_포인트_내역이_기록된_경우_일치로_반환() {
+
+            //given
+            pointSummaryIndex.find(1L);
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, millis(DAY)));
+            pointSummaryIndex.record(pointHistoryRepository.insert(1L, 300L, TransactionType.USE, millis(DAY)));
+
+            //when
+            PointSummaryRebuild result = pointSummaryIndex.rebuild(1L);
+
+            //then
+            assertThat(result.consistent()).isTrue();
+            assertThat(result.after()).isEqualTo(result.before());
+        }
+    }
+
+    private static long millis(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
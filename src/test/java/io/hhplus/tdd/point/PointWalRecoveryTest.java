@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointWalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class 로그_복구 {
+
+        @Test
+        void 로그를_재생해_유저별_잔고와_포인트_내역과_요약을_복구() throws InterruptedException {
+
+            //given
+            PointWalProperties properties = new PointWalProperties(true, directory.toString(), 1 << 20, PointWalFsyncMode.PER_OP, 100L);
+            PointWriteAheadLog before = new PointWriteAheadLog(properties);
+            before.append(1L, TransactionType.CHARGE, 1000L, 10L);
+            before.append(2L, TransactionType.CHARGE, 500L, 20L);
+            before.append(1L, TransactionType.USE, 300L, 30L);
+            before.shutdown();
+
+            PointWriteAheadLog pointWriteAheadLog = new PointWriteAheadLog(properties);
+            UserPointRepository userPointRepository = new UserPointTableRepository(new UserPointTable());
+            PointHistoryRepository pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+            PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryRepository, new PointHistoryIndexProperties(true));
+            PointSummaryIndex pointSummaryIndex = new PointSummaryIndex(pointHistoryRepository, new PointSummaryProperties(true, 0));
+            PointSnapshotter pointSnapshotter = new PointSnapshotter(pointWriteAheadLog, properties, PointSnapshotProperties.disabled());
+            PointWalRecovery pointWalRecovery = new PointWalRecovery(pointWriteAheadLog, pointSnapshotter, userPointRepository, pointHistoryRepository, pointHistoryIndex, pointSummaryIndex);
+
+            //when
+            pointWalRecovery.recover();
+
+            //then
+            assertThat(userPointRepository.selectById(1L).point()).isEqualTo(700L);
+            assertThat(userPointRepository.selectById(2L).point()).isEqualTo(500L);
+            assertThat(pointHistoryIndex.findAllByUserId(1L))
+                    .extracting(PointHistory::amount, PointHistory::type, PointHistory::updateMillis)
+                    .containsExactly(
+                            tuple(1000L, TransactionType.CHARGE, 10L),
+                            tuple(300L, TransactionType.USE, 30L)
+                    );
+            assertThat(pointSummaryIndex.find(1L).totals().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(1L, 300L));
+            assertThat(pointSummaryIndex.find(2L).totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1L, 500L));
+            pointWriteAheadLog.shutdown();
+        }
+
+        @Test
+        void 로그가_비활성화된_경우_테이블을_변경하지_않음() {
+
+            //given
+            UserPointRepository userPointRepository = new UserPointTableRepository(new UserPointTable());
+            PointHistoryRepository pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+            PointWriteAheadLog pointWriteAheadLog = new PointWriteAheadLog(PointWalProperties.disabled());
+            PointSnapshotter pointSnapshotter = new PointSnapshotter(pointWriteAheadLog, PointWalProperties.disabled(), PointSnapshotProperties.disabled());
+            PointWalRecovery pointWalRecovery = new PointWalRecovery(pointWriteAheadLog, pointSnapshotter, userPointRepository, pointHistoryRepository, new PointHistoryIndex(pointHistoryRepository, new PointHistoryIndexProperties(true)), new PointSummaryIndex(pointHistoryRepository, PointSummaryProperties.disabled()));
+
+            //when
+            pointWalRecovery.recover();
+
+            //then
+            assertThat(pointHistoryRepository.selectAllByUserId(1L)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointWriteAheadLogTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class 로그_기록 {
+
+        @Test
+        void 기록한_순서대로_1부터_순번_부여() throws InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.PER_OP, 1 << 20);
+
+            //when
+            long first = pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1000L, ANY_UPDATE_MILLIS);
+            long second = pointWriteAheadLog.append(2L, TransactionType.USE, 500L, ANY_UPDATE_MILLIS);
+
+            //then
+            assertThat(first).isEqualTo(1L);
+            assertThat(second).isEqualTo(2L);
+            pointWriteAheadLog.shutdown();
+        }
+
+        @Test
+        void 세그먼트_크기를_넘으면_새_세그먼트에_이어서_기록() throws IOException, InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.BATCH, PointWriteAheadLog.HEADER_BYTES + PointWriteAheadLog.RECORD_BYTES * 2L);
+
+            //when
+            for (int i = 0; i < 5; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, ANY_UPDATE_MILLIS);
+            }
+            pointWriteAheadLog.shutdown();
+
+            //then
+            assertThat(segmentFiles()).hasSize(3);
+            assertThat(replayAll(open(PointWalFsyncMode.BATCH, 1 << 20))).hasSize(5);
+        }
+
+        @Test
+        void 여러_스레드가_동시에_기록해도_순번이_빠짐없이_부여() throws InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.BATCH, 1 << 20);
+            int threadCount = 8;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+
+            //when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        for (int j = 0; j < 100; j++) {
+                            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1L, ANY_UPDATE_MILLIS);
+                        }
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+            pointWriteAheadLog.shutdown();
+
+            //then
+            List<PointWalRecord> records = replayAll(open(PointWalFsyncMode.BATCH, 1 << 20));
+            assertThat(records).extracting(PointWalRecord::lsn)
+                    .containsExactlyElementsOf(Stream.iterate(1L, lsn -> lsn + 1).limit(800).toList());
+        }
+    }
+
+    @Nested
+    class 로그_재생 {
+
+        @Test
+        void 다시_열어도_기록한_레코드를_순서대로_재생() throws InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.INTERVAL, 1 << 20);
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1000L, 10L);
+            pointWriteAheadLog.append(1L, TransactionType.USE, 300L, 20L);
+            pointWriteAheadLog.shutdown();
+
+            //when
+            PointWriteAheadLog reopened = open(PointWalFsyncMode.INTERVAL, 1 << 20);
+            List<PointWalRecord> records = replayAll(reopened);
+
+            //then
+            assertThat(records).containsExactly(
+                    new PointWalRecord(1L, 1L, TransactionType.CHARGE, 1000L, 10L),
+                    new PointWalRecord(2L, 1L, TransactionType.USE, 300L, 20L)
+            );
+            assertThat(reopened.lastLsn()).isEqualTo(2L);
+        }
+
+        @Test
+        void 지정한_순번_이후_레코드만_재생() throws InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.BATCH, PointWriteAheadLog.HEADER_BYTES + PointWriteAheadLog.RECORD_BYTES * 2L);
+            for (int i = 0; i < 5; i++) {
+                pointWriteAheadLog.append(1L, TransactionType.CHARGE, 100L, ANY_UPDATE_MILLIS);
+            }
+
+            //when
+            List<PointWalRecord> records = new ArrayList<>();
+            long lastLsn = pointWriteAheadLog.replay(3L, records::add);
+
+            //then
+            assertThat(records).extracting(PointWalRecord::lsn).containsExactly(4L, 5L);
+            assertThat(lastLsn).isEqualTo(5L);
+            pointWriteAheadLog.shutdown();
+        }
+
+        @Test
+        void 기록_도중_끊긴_마지막_레코드는_버리고_이어서_기록() throws IOException, InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.PER_OP, 1 << 20);
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1000L, ANY_UPDATE_MILLIS);
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 2000L, ANY_UPDATE_MILLIS);
+            pointWriteAheadLog.shutdown();
+            try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+                file.setLength(file.length() - 5);
+            }
+
+            //when
+            PointWriteAheadLog reopened = open(PointWalFsyncMode.PER_OP, 1 << 20);
+            long lsn = reopened.append(1L, TransactionType.USE, 500L, ANY_UPDATE_MILLIS);
+
+            //then
+            assertThat(lsn).isEqualTo(2L);
+            assertThat(replayAll(reopened)).extracting(PointWalRecord::amount).containsExactly(1000L, 500L);
+        }
+
+        @Test
+        void 체크섬이_맞지_않는_레코드부터는_재생하지_않음() throws IOException, InterruptedException {
+
+            //given
+            PointWriteAheadLog pointWriteAheadLog = open(PointWalFsyncMode.PER_OP, 1 << 20);
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 1000L, ANY_UPDATE_MILLIS);
+            pointWriteAheadLog.append(1L, TransactionType.CHARGE, 2000L, ANY_UPDATE_MILLIS);
+            pointWriteAheadLog.shutdown();
+            try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+                long amountOffset = PointWriteAheadLog.HEADER_BYTES + PointWriteAheadLog.RECORD_BYTES + Integer.BYTES + Long.BYTES * 2 + Byte.BYTES;
+                file.seek(amountOffset);
+                file.writeLong(999999L);
+            }
+
+            //when
+            List<PointWalRecord> records = replayAll(open(PointWalFsyncMode.PER_OP, 1 << 20));
+
+            //then
+            assertThat(records).extracting(PointWalRecord::amount).containsExactly(1000L);
+        }
+    }
+
+    private PointWriteAheadLog open(PointWalFsyncMode fsyncMode, long segmentBytes) {
+        return new PointWriteAheadLog(new PointWalProperties(true, directory.toString(), segmentBytes, fsyncMode, 10L));
+    }
+
+    private List<PointWalRecord> replayAll(PointWriteAheadLog pointWriteAheadLog) {
+        List<PointWalRecord> records = new ArrayList<>();
+        pointWriteAheadLog.replay(0L, records::add);
+        return records;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.sorted(Comparator.comparing(Path::toString)).toList();
+        }
+    }
+}
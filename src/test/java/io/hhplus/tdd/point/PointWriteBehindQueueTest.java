@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointWriteBehindQueueTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    PointWriteBehindQueue pointWriteBehindQueue;
+
+    @AfterEach
+    void after() throws InterruptedException {
+        if (pointWriteBehindQueue != null) {
+            pointWriteBehindQueue.shutdown();
+        }
+    }
+
+    @Nested
+    class 저장_작업_등록 {
+
+        @Test
+        void 저장_작업_등록_시_메모리_잔고가_즉시_반영() {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 10, 100L, 1));
+            CountDownLatch blocker = new CountDownLatch(1);
+
+            //when
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> await(blocker));
+
+            //then
+            assertThat(pointWriteBehindQueue.getBalance(1L)).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            blocker.countDown();
+        }
+
+        @Test
+        void 같은_유저의_저장_작업은_등록된_순서대로_처리() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 100, 100L, 4));
+            List<Long> written = new CopyOnWriteArrayList<>();
+
+            //when
+            for (long i = 1; i <= 50; i++) {
+                long point = i;
+                pointWriteBehindQueue.enqueue(new UserPoint(1L, point, ANY_UPDATE_MILLIS), () -> written.add(point));
+            }
+            pointWriteBehindQueue.flush(TimeUnit.SECONDS.toMillis(5));
+
+            //then
+            assertThat(written).hasSize(50).isSorted();
+        }
+
+        @Test
+        void 대기열이_가득_차면_대기_시간_이후_예외_발생() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 1, 100L, 1));
+            CountDownLatch blocker = new CountDownLatch(1);
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> await(blocker));
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS), () -> {
+            });
+
+            //when, then
+            assertThatThrownBy(() -> pointWriteBehindQueue.enqueue(new UserPoint(1L, 3000L, ANY_UPDATE_MILLIS), () -> {
+            }))
+                    .isInstanceOf(PointUnavailableException.class)
+                    .hasMessageContaining("포인트 저장 대기열이 가득 찼습니다.");
+            assertThat(pointWriteBehindQueue.getBalance(1L).point()).isEqualTo(2000L);
+
+            blocker.countDown();
+        }
+
+        @Test
+        void 대기열이_가득_차_거절된_요청은_등록_전_작업을_실행하지_않음() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 1, 100L, 1));
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<Long> logged = new CopyOnWriteArrayList<>();
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> logged.add(1000L), () -> await(blocker));
+
+            //when
+            assertThatThrownBy(() -> pointWriteBehindQueue.enqueue(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS), () -> logged.add(2000L), () -> {
+            }))
+                    .isInstanceOf(PointUnavailableException.class);
+            blocker.countDown();
+
+            //then
+            assertThat(logged).containsExactly(1000L);
+            assertThat(pointWriteBehindQueue.getBalance(1L).point()).isEqualTo(1000L);
+        }
+
+        @Test
+        void 등록_전_작업이_실패하면_등록하지_않고_확보한_자리를_반환() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 1, 100L, 1));
+            List<Long> written = new CopyOnWriteArrayList<>();
+
+            //when
+            assertThatThrownBy(() -> pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> {
+                throw new PointUnavailableException("포인트 로그를 기록할 수 없습니다.");
+            }, () -> written.add(1000L)))
+                    .isInstanceOf(PointUnavailableException.class);
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS), () -> written.add(2000L));
+            pointWriteBehindQueue.flush(TimeUnit.SECONDS.toMillis(5));
+
+            //then
+            assertThat(written).containsExactly(2000L);
+            assertThat(pointWriteBehindQueue.getBalance(1L).point()).isEqualTo(2000L);
+        }
+    }
+
+    @Nested
+    class 저장_실패와_정리 {
+
+        @Test
+        void 저장에_실패한_작업은_대기열에_남겨_같은_순서로_다시_저장() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 10, 100L, 1));
+            List<Long> written = new CopyOnWriteArrayList<>();
+            AtomicInteger failures = new AtomicInteger(2);
+
+            //when
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> {
+                if (failures.getAndDecrement() > 0) {
+                    throw new RuntimeException("유저 포인트 저장 실패");
+                }
+                written.add(1000L);
+            });
+            pointWriteBehindQueue.enqueue(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS), () -> written.add(2000L));
+            boolean flushed = pointWriteBehindQueue.flush(TimeUnit.SECONDS.toMillis(5));
+
+            //then
+            assertThat(flushed).isTrue();
+            assertThat(written).containsExactly(1000L, 2000L);
+        }
+
+        @Test
+        void 모든_작업이_저장된_유저는_대기열과_메모리_잔고를_제거() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 10, 100L, 2));
+            for (long userId = 1; userId <= 10; userId++) {
+                pointWriteBehindQueue.enqueue(new UserPoint(userId, 1000L, ANY_UPDATE_MILLIS), () -> {
+                });
+            }
+
+            //when
+            pointWriteBehindQueue.flush(TimeUnit.SECONDS.toMillis(5));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pointWriteBehindQueue.activeUserCount() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            //then
+            assertThat(pointWriteBehindQueue.activeUserCount()).isZero();
+            assertThat(pointWriteBehindQueue.getBalance(1L)).isNull();
+        }
+
+        @Test
+        void 종료된_뒤_등록하면_PointUnavailableException_발생() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 10, 100L, 1));
+            pointWriteBehindQueue.shutdown();
+            List<Long> logged = new CopyOnWriteArrayList<>();
+
+            //when //then
+            assertThatThrownBy(() -> pointWriteBehindQueue.enqueue(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS), () -> logged.add(1000L), () -> {
+            }))
+                    .isInstanceOf(PointUnavailableException.class);
+            assertThat(logged).isEmpty();
+        }
+    }
+
+    @Nested
+    class 저장_작업_완료_대기 {
+
+        @Test
+        void 종료_시_남아있는_저장_작업을_모두_처리() throws InterruptedException {
+
+            //given
+            pointWriteBehindQueue = new PointWriteBehindQueue(new PointWriteBehindProperties(true, 100, 100L, 2));
+            List<Long> written = new CopyOnWriteArrayList<>();
+            for (long userId = 1; userId <= 10; userId++) {
+                long id = userId;
+                pointWriteBehindQueue.enqueue(new UserPoint(id, 1000L, ANY_UPDATE_MILLIS), () -> written.add(id));
+            }
+
+            //when
+            pointWriteBehindQueue.shutdown();
+
+            //then
+            assertThat(written).hasSize(10);
+            assertThat(pointWriteBehindQueue.pendingCount()).isEqualTo(0L);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
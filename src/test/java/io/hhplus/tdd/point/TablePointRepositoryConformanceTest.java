@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryTableRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.UserPointTableRepository;
+
+class TablePointRepositoryConformanceTest extends PointRepositoryConformanceTest {
+
+    @Override
+    UserPointRepository createUserPointRepository() {
+        return new UserPointTableRepository(new UserPointTable());
+    }
+
+    @Override
+    PointHistoryRepository createPointHistoryRepository() {
+        return new PointHistoryTableRepository(new PointHistoryTable());
+    }
+}
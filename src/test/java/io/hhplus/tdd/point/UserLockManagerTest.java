@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserLockManagerTest {
+
+    @Nested
+    class 유저별_락 {
+
+        @Test
+        void 같은_유저는_같은_락_반환() {
+
+            //given
+            UserLockManager userLockManager = new UserLockManager(new UserLockProperties(UserLockStrategyType.PER_USER, true, 1024));
+
+            //when, then
+            assertThat(userLockManager.getLock(1L)).isSameAs(userLockManager.getLock(1L));
+            assertThat(userLockManager.getLock(1L)).isNotSameAs(userLockManager.getLock(2L));
+            assertThat(userLockManager.getLock(1L).isFair()).isTrue();
+        }
+    }
+
+    @Nested
+    class 스트라이프_락 {
+
+        @Test
+        void 유저_수와_관계없이_설정한_개수의_락만_사용() {
+
+            //given
+            UserLockManager userLockManager = new UserLockManager(new UserLockProperties(UserLockStrategyType.STRIPED, false, 16));
+            Set<ReentrantLock> locks = new HashSet<>();
+
+            //when
+            for (long userId = 0; userId < 10000; userId++) {
+                locks.add(userLockManager.getLock(userId));
+            }
+
+            //then
+            assertThat(locks).hasSizeLessThanOrEqualTo(16);
+            assertThat(userLockManager.stats().lockCount()).isEqualTo(16L);
+            assertThat(userLockManager.getLock(1L)).isSameAs(userLockManager.getLock(1L));
+            assertThat(userLockManager.getLock(1L).isFair()).isFalse();
+        }
+    }
+
+    @Nested
+    class 사용하지_않는_락_제거 {
+
+        @Test
+        void 락을_얻어간_스레드가_모두_unlock_하면_락_제거() {
+
+            //given
+            UserLockManager userLockManager = new UserLockManager(new UserLockProperties(UserLockStrategyType.EVICTING, true, 1024));
+            ReentrantLock first = userLockManager.getLock(1L);
+            ReentrantLock second = userLockManager.getLock(1L);
+            first.lock();
+            second.lock();
+
+            //when
+            second.unlock();
+            long lockCountWhileHeld = userLockManager.stats().lockCount();
+            first.unlock();
+
+            //then
+            assertThat(first).isSameAs(second);
+            assertThat(lockCountWhileHeld).isEqualTo(1L);
+            assertThat(userLockManager.stats().lockCount()).isEqualTo(0L);
+        }
+
+        @Test
+        void 다른_스레드가_잡고_있어_tryLock_에_실패해도_unlock_후_락_제거() throws InterruptedException {
+
+            //given
+            UserLockManager userLockManager = new UserLockManager(new UserLockProperties(UserLockStrategyType.EVICTING, true, 1024));
+            ReentrantLock held = userLockManager.getLock(1L);
+            held.lock();
+            ReentrantLock[] tried = new ReentrantLock[1];
+
+            //when
+            Thread other = new Thread(() -> tried[0] = userLockManager.tryLock(1L));
+            other.start();
+            other.join();
+            held.unlock();
+
+            //then
+            assertThat(tried[0]).isNull();
+            assertThat(userLockManager.stats().lockCount()).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    class 락_경합_횟수 {
+
+        @Test
+        void 다른_스레드가_락을_잡고_있을_때_락_획득_시_경합_횟수_증가() throws InterruptedException {
+
+            //given
+            UserLockManager userLockManager = new UserLockManager();
+            ReentrantLock lock = userLockManager.getLock(1L);
+            lock.lock();
+
+            CountDownLatch countDownLatch = new CountDownLatch(1);
+            Thread waiter = new Thread(() -> {
+                ReentrantLock waiterLock = userLockManager.getLock(1L);
+                waiterLock.lock();
+                waiterLock.unlock();
+                countDownLatch.countDown();
+            });
+
+            //when
+            waiter.start();
+            while (!lock.hasQueuedThreads()) {
+                Thread.onSpinWait();
+            }
+            lock.unlock();
+            countDownLatch.await();
+
+            //then
+            assertThat(userLockManager.stats().acquireCount()).isEqualTo(2L);
+            assertThat(userLockManager.stats().contendedCount()).isEqualTo(1L);
+        }
+    }
+}
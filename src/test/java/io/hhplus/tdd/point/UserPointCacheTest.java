@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserPointCacheTest {
+
+    private static final long ANY_UPDATE_MILLIS = 1L;
+
+    @Nested
+    class 유저_포인트_캐시_조회 {
+
+        @Test
+        void 캐시에_없는_유저_조회_시_조회_함수로_적재하고_미스_횟수_증가() {
+
+            //given
+            UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 10, 60000L), new UserLockManager());
+
+            //when
+            UserPoint result = userPointCache.get(1L, id -> new UserPoint(id, 1000L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            assertThat(userPointCache.stats()).isEqualTo(new UserPointCacheStats(0L, 1L, 0L, 1));
+        }
+
+        @Test
+        void 캐시에_있는_유저_조회_시_조회_함수를_호출하지_않고_히트_횟수_증가() {
+
+            //given
+            UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 10, 60000L), new UserLockManager());
+            AtomicInteger loadCount = new AtomicInteger();
+            userPointCache.put(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            UserPoint result = userPointCache.get(1L, id -> {
+                loadCount.incrementAndGet();
+                return UserPoint.empty(id);
+            });
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            assertThat(loadCount.get()).isEqualTo(0);
+            assertThat(userPointCache.stats().hitCount()).isEqualTo(1L);
+        }
+
+        @Test
+        void 갱신된_유저_포인트는_이후_조회에_바로_반영() {
+
+            //given
+            UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 10, 60000L), new UserLockManager());
+            userPointCache.put(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            userPointCache.put(new UserPoint(1L, 2000L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(userPointCache.get(1L, UserPoint::empty).point()).isEqualTo(2000L);
+        }
+    }
+
+    @Nested
+    class 유저_포인트_캐시_제거 {
+
+        @Test
+        void 최대_크기를_넘으면_가장_오래_사용되지_않은_유저부터_제거() {
+
+            //given
+            UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 2, 60000L), new UserLockManager());
+            userPointCache.put(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+            userPointCache.put(new UserPoint(2L, 1000L, ANY_UPDATE_MILLIS));
+            userPointCache.get(1L, UserPoint::empty);
+
+            //when
+            userPointCache.put(new UserPoint(3L, 1000L, ANY_UPDATE_MILLIS));
+
+            //then
+            assertThat(userPointCache.stats().evictionCount()).isEqualTo(1L);
+            assertThat(userPointCache.get(1L, UserPoint::empty).point()).isEqualTo(1000L);
+            assertThat(userPointCache.get(2L, UserPoint::empty).point()).isEqualTo(0L);
+        }
+
+        @Test
+        void 유지_시간이_지난_유저는_조회_시_제거_후_다시_적재() throws InterruptedException {
+
+            //given
+            UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 10, 10L), new UserLockManager());
+            userPointCache.put(new UserPoint(1L, 1000L, ANY_UPDATE_MILLIS));
+
+            //when
+            Thread.sleep(50L);
+            UserPoint result = userPointCache.get(1L, UserPoint::empty);
+
+            //then
+            assertThat(result.point()).isEqualTo(0L);
+            assertThat(userPointCache.stats().evictionCount()).isEqualTo(1L);
+            assertThat(userPointCache.stats().missCount()).isEqualTo(1L);
+        }
+    }
+}
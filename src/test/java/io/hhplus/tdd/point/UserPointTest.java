@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point;
 
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -146,4 +147,46 @@ class UserPointTest {
             assertThat(result).isEqualTo(new UserPoint(ANY_ID, 2000L - amount, result.updateMillis()));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 트랜잭션_타입별_유저_포인트_반영 {
+
+        @Test
+        void 충전_타입이면_유저_포인트_잔고에_충전_금액이_더해져_유저_포인트_반환() {
+
+            //given
+            UserPoint userPoint = new UserPoint(ANY_ID, 1000L, ANY_UPDATE_MILLIS);
+
+            //when
+            UserPoint result = userPoint.apply(TransactionType.CHARGE, 1000L);
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(ANY_ID, 2000L, result.updateMillis()));
+        }
+
+        @Test
+        void 사용_타입이면_유저_포인트_잔고에서_사용_금액을_뺀_유저_포인트_반환() {
+
+            //given
+            UserPoint userPoint = new UserPoint(ANY_ID, 1000L, ANY_UPDATE_MILLIS);
+
+            //when
+            UserPoint result = userPoint.apply(TransactionType.USE, 1000L);
+
+            //then
+            assertThat(result).isEqualTo(new UserPoint(ANY_ID, 0L, result.updateMillis()));
+        }
+
+        @Test
+        void 트랜잭션_타입이_없으면_파라미터_예외_발생() {
+
+            //given
+            UserPoint userPoint = new UserPoint(ANY_ID, 1000L, ANY_UPDATE_MILLIS);
+
+            //when, then
+            assertThatThrownBy(() -> userPoint.apply(null, 1000L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("트랜잭션 타입은 필수입니다.");
+        }
+    }
+}